@@ -0,0 +1,85 @@
+package teletubbies.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.commons.exceptions.EarliestVersionException;
+
+/**
+ * Measures a session of {@value #NUMBER_OF_PUSHES} commits to a {@link HistoryManager}, as made by
+ * {@code CommandInputHistory} for every line typed and by {@code VersionedAddressBook} for every command.
+ * The time per session is expected to grow linearly with the number of commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistoryManagerBenchmark {
+
+    private static final int NUMBER_OF_PUSHES = 100_000;
+
+    private final String[] inputs = new String[NUMBER_OF_PUSHES];
+
+    /**
+     * Creates the inputs to commit.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < NUMBER_OF_PUSHES; i++) {
+            inputs[i] = "done -i " + i;
+        }
+    }
+
+    /**
+     * Commits every input to an unbounded history.
+     */
+    @Benchmark
+    public HistoryManager<String> commitAndPush() {
+        HistoryManager<String> historyManager = new HistoryManager<>();
+        for (String input : inputs) {
+            historyManager.commitAndPush(input);
+        }
+        return historyManager;
+    }
+
+    /**
+     * Commits every input to a history kept within the default budget, so that the oldest states are evicted.
+     */
+    @Benchmark
+    public HistoryManager<String> commitAndPushWithinBudget() {
+        HistoryManager<String> historyManager = new HistoryManager<>();
+        historyManager.setBudget(new HistoryBudget(), input -> 2L * input.length());
+        for (String input : inputs) {
+            historyManager.commitAndPush(input);
+        }
+        return historyManager;
+    }
+
+    /**
+     * Undoes before every other commit, so that each of those commits discards a redoable state.
+     */
+    @Benchmark
+    public HistoryManager<String> undoAndCommitAndPush() throws EarliestVersionException {
+        HistoryManager<String> historyManager = new HistoryManager<>();
+        for (int i = 0; i < NUMBER_OF_PUSHES; i++) {
+            if (i % 2 == 0 && historyManager.isUndoable()) {
+                historyManager.undo();
+            }
+            historyManager.commitAndPush(inputs[i]);
+        }
+        return historyManager;
+    }
+}
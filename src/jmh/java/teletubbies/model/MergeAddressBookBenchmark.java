@@ -0,0 +1,100 @@
+package teletubbies.model;
+
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_ADDRESS;
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_EMAIL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teletubbies.model.person.Address;
+import teletubbies.model.person.Email;
+import teletubbies.model.person.Name;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.Phone;
+import teletubbies.model.person.Remark;
+import teletubbies.model.person.Uuid;
+import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+
+/**
+ * Measures {@link ModelManager#mergeAddressBook(ReadOnlyAddressBook)} of a file of {@value #NUMBER_OF_INCOMING}
+ * persons into an address book of {@value #NUMBER_OF_PERSONS} persons, half of them updating existing persons and
+ * half of them new. The merge is expected to take well under a second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MergeAddressBookBenchmark {
+
+    private static final int NUMBER_OF_PERSONS = 200_000;
+    private static final int NUMBER_OF_INCOMING = 50_000;
+
+    private final List<Person> persons = new ArrayList<>();
+    private AddressBook incoming;
+    private ModelManager model;
+
+    /**
+     * Creates the persons in the address book and the persons to merge.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        for (int i = 0; i < NUMBER_OF_PERSONS; i++) {
+            persons.add(createPerson(UUID.randomUUID().toString(), i, ""));
+        }
+        List<Person> incomingPersons = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_INCOMING / 2; i++) {
+            int updated = i * (NUMBER_OF_PERSONS / (NUMBER_OF_INCOMING / 2));
+            incomingPersons.add(createPerson(persons.get(updated).getUuid().uuid, updated, "merged"));
+        }
+        for (int i = 0; i < NUMBER_OF_INCOMING / 2; i++) {
+            incomingPersons.add(createPerson(UUID.randomUUID().toString(), NUMBER_OF_PERSONS + i, ""));
+        }
+        incoming = new AddressBook();
+        incoming.setPersons(incomingPersons);
+    }
+
+    /**
+     * Creates a model holding the persons in the address book, as the previous merge changed it.
+     */
+    @Setup(Level.Iteration)
+    public void setUpModel() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    /**
+     * Merges the incoming persons and commits the result as one version.
+     */
+    @Benchmark
+    public ModelManager mergeAddressBook() {
+        model.mergeAddressBook(incoming);
+        model.commitAddressBook();
+        return model;
+    }
+
+    private static Person createPerson(String uuid, int number, String remark) {
+        return new Person(new Uuid(uuid), new Name("Person " + number), new Phone(String.valueOf(80000000 + number)),
+                new Email(DEFAULT_EMAIL), new Address(DEFAULT_ADDRESS),
+                new CompletionStatusTag(CompletionStatus.INCOMPLETE), new Remark(remark), Set.of(new Tag("friends")));
+    }
+}
@@ -0,0 +1,76 @@
+package teletubbies.model.person;
+
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_ADDRESS;
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_EMAIL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+
+/**
+ * Measures {@link PersonHasTagsPredicate#test(Person)} without a tag index, as used when a list of persons is
+ * filtered directly. Run with {@code gradlew jmh}, which enables the GC profiler: {@code gc.alloc.rate.norm} is
+ * the number of bytes allocated per call and is expected to be about zero.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonHasTagsPredicateBenchmark {
+
+    private static final int NUMBER_OF_PERSONS = 1000;
+
+    private final List<Person> persons = new ArrayList<>();
+    private PersonHasTagsPredicate predicate;
+    private int next;
+
+    /**
+     * Creates persons that each hold a few tags, and a predicate looking for a tag value and a completion status.
+     */
+    @Setup
+    public void setUp() {
+        CompletionStatus[] statuses = CompletionStatus.values();
+        for (int i = 0; i < NUMBER_OF_PERSONS; i++) {
+            Set<Tag> tags = Set.of(
+                    new Tag("Assignee", "agent" + (i % 10), true),
+                    new Tag("Region", "region" + (i % 4), false),
+                    new Tag("friends"));
+            persons.add(new Person(new Uuid(UUID.randomUUID().toString()), new Name("Person " + i),
+                    new Phone(String.valueOf(80000000 + i)), new Email(DEFAULT_EMAIL), new Address(DEFAULT_ADDRESS),
+                    new CompletionStatusTag(statuses[i % statuses.length]), new Remark(""), tags));
+        }
+        predicate = new PersonHasTagsPredicate(Set.of(
+                new Tag("Assignee", "agent3", true),
+                new Tag("CompletionStatus", CompletionStatus.ONGOING.toString(), new Role[]{}, true)));
+    }
+
+    /**
+     * Tests the next person against the predicate.
+     */
+    @Benchmark
+    public void test(Blackhole blackhole) {
+        next = next == NUMBER_OF_PERSONS - 1 ? 0 : next + 1;
+        blackhole.consume(predicate.test(persons.get(next)));
+    }
+}
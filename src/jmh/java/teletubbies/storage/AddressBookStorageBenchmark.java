@@ -0,0 +1,159 @@
+package teletubbies.storage;
+
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_ADDRESS;
+import static teletubbies.logic.parser.CliSyntax.DEFAULT_EMAIL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.model.AddressBook;
+import teletubbies.model.ReadOnlyAddressBook;
+import teletubbies.model.person.Address;
+import teletubbies.model.person.Email;
+import teletubbies.model.person.Name;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.Phone;
+import teletubbies.model.person.Remark;
+import teletubbies.model.person.Uuid;
+import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+
+/**
+ * Measures reading an address book of {@value #NUMBER_OF_PERSONS} persons from a JSON file, one person at a time
+ * through {@link JsonAddressBookStorage}, and through a whole {@link JsonSerializableAddressBook} for comparison.
+ * Also measures saving it by streaming the persons, with and without indentation, and through a whole
+ * {@link JsonSerializableAddressBook}, and reading and saving it through {@link BinaryAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+
+    private static final int NUMBER_OF_PERSONS = 200_000;
+
+    private Path directory;
+    private Path jsonFile;
+    private Path binaryFile;
+    private Path savedFile;
+    private AddressBook addressBook;
+
+    /**
+     * Writes the address book to read.
+     */
+    @Setup(Level.Trial)
+    public void setUpFiles() throws IOException {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PERSONS; i++) {
+            persons.add(createPerson(i));
+        }
+        addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        directory = Files.createTempDirectory("teletubbies-benchmark");
+        jsonFile = directory.resolve("addressbook.json");
+        binaryFile = directory.resolve("addressbook.bin");
+        savedFile = directory.resolve("saved.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files written.
+     */
+    @TearDown(Level.Trial)
+    public void tearDownFiles() throws IOException {
+        Files.deleteIfExists(jsonFile);
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(savedFile);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Reads the address book one person at a time.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readJsonStreaming() throws DataConversionException {
+        return new JsonAddressBookStorage(jsonFile).readAddressBook().get();
+    }
+
+    /**
+     * Reads the whole file into a {@code JsonSerializableAddressBook} before converting it.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readJsonWholeFile() throws DataConversionException, IllegalValueException {
+        return JsonUtil.readJsonFile(jsonFile, JsonSerializableAddressBook.class).get().toModelType();
+    }
+
+    /**
+     * Reads the address book from the binary file, without validating the fields of each person.
+     */
+    @Benchmark
+    public ReadOnlyAddressBook readBinary() throws DataConversionException {
+        return new BinaryAddressBookStorage(binaryFile).readAddressBook().get();
+    }
+
+    /**
+     * Saves the address book by streaming the persons to the file, indented as in the files read.
+     */
+    @Benchmark
+    public void saveJsonStreaming() throws IOException {
+        new JsonAddressBookStorage(savedFile).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book by streaming the persons to the file, without indentation.
+     */
+    @Benchmark
+    public void saveJsonStreamingCompact() throws IOException {
+        new JsonAddressBookStorage(savedFile, true).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the address book by converting it to a {@code JsonSerializableAddressBook} and then to a string.
+     */
+    @Benchmark
+    public void saveJsonWholeFile() throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), savedFile);
+    }
+
+    /**
+     * Saves the address book as a binary file.
+     */
+    @Benchmark
+    public void saveBinary() throws IOException {
+        new BinaryAddressBookStorage(savedFile).saveAddressBook(addressBook);
+    }
+
+    private static Person createPerson(int number) {
+        return new Person(new Uuid(UUID.randomUUID().toString()), new Name("Person " + number),
+                new Phone(String.valueOf(80000000 + number)), new Email(DEFAULT_EMAIL), new Address(DEFAULT_ADDRESS),
+                new CompletionStatusTag(CompletionStatus.INCOMPLETE), new Remark("Remark " + number),
+                Set.of(new Tag("friends")));
+    }
+}
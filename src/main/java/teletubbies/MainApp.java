@@ -18,12 +18,14 @@ import teletubbies.logic.LogicManager;
 import teletubbies.model.AddressBook;
 import teletubbies.model.Model;
 import teletubbies.model.ModelManager;
+import teletubbies.model.PersonChangeListener;
 import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.model.ReadOnlyUserPrefs;
 import teletubbies.model.UserPrefs;
 import teletubbies.model.util.SampleDataUtil;
+import teletubbies.storage.AddressBookConverter;
 import teletubbies.storage.AddressBookStorage;
-import teletubbies.storage.JsonAddressBookStorage;
+import teletubbies.storage.CompressedSegmentSpillStore;
 import teletubbies.storage.JsonUserPrefsStorage;
 import teletubbies.storage.Storage;
 import teletubbies.storage.StorageManager;
@@ -56,12 +58,17 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = AddressBookConverter.createStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        if (addressBookStorage instanceof PersonChangeListener) {
+            // Only the changes made from here on are appended to the journal, as the files already hold the rest.
+            model.addPersonChangeListener((PersonChangeListener) addressBookStorage);
+        }
 
         logic = new LogicManager(model, storage);
 
@@ -90,7 +97,14 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        try {
+            modelManager.setVersionSpillStore(CompressedSegmentSpillStore.createInTempDirectory());
+        } catch (IOException e) {
+            logger.warning("Failed to create the undo history spill directory. "
+                    + "Undo history will be limited to the states kept in memory");
+        }
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -174,6 +188,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.flushSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
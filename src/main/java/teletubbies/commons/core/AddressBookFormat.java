@@ -0,0 +1,11 @@
+package teletubbies.commons.core;
+
+/**
+ * The formats in which the address book can be stored on the hard disk.
+ */
+public enum AddressBookFormat {
+    /** A JSON file that can be read and edited by users, with a journal of the changes since it was written. */
+    JSON,
+    /** A compact binary file that is quicker to read and write, but cannot be edited by users. */
+    BINARY
+}
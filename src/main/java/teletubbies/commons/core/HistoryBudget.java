@@ -0,0 +1,83 @@
+package teletubbies.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the limits on the states kept by a {@code HistoryManager}.
+ * Once either limit is exceeded, the oldest states are evicted. A limit of 0 means that there is no such limit.
+ * Guarantees: immutable.
+ */
+public class HistoryBudget implements Serializable {
+
+    public static final HistoryBudget UNLIMITED = new HistoryBudget(0, 0);
+
+    private static final int DEFAULT_MAX_VERSIONS = 1000;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final int maxVersions;
+    private final long maxBytes;
+
+    /**
+     * Constructs a {@code HistoryBudget} with the default limits.
+     */
+    public HistoryBudget() {
+        maxVersions = DEFAULT_MAX_VERSIONS;
+        maxBytes = DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Constructs a {@code HistoryBudget} with the specified limits.
+     */
+    public HistoryBudget(int maxVersions, long maxBytes) {
+        if (maxVersions < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("History budget limits must not be negative.");
+        }
+        this.maxVersions = maxVersions;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxVersions() {
+        return maxVersions;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns true if a history of {@code versionCount} states taking up an estimated {@code estimatedBytes} is
+     * over either limit.
+     */
+    public boolean isExceededBy(int versionCount, long estimatedBytes) {
+        return (maxVersions > 0 && versionCount > maxVersions) || (maxBytes > 0 && estimatedBytes > maxBytes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistoryBudget)) { //this handles null as well.
+            return false;
+        }
+
+        HistoryBudget o = (HistoryBudget) other;
+
+        return maxVersions == o.maxVersions
+                && maxBytes == o.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxVersions, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max versions : " + (maxVersions == 0 ? "unlimited" : maxVersions) + "\n");
+        sb.append("Max bytes : " + (maxBytes == 0 ? "unlimited" : maxBytes));
+        return sb.toString();
+    }
+}
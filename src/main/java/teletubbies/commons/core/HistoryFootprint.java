@@ -0,0 +1,65 @@
+package teletubbies.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * The number of states kept by a {@code HistoryManager} and the estimated memory they take up, along with the
+ * budget they are kept within.
+ * Guarantees: immutable.
+ */
+public class HistoryFootprint {
+
+    private final int versionCount;
+    private final long estimatedBytes;
+    private final HistoryBudget budget;
+
+    /**
+     * Constructs a {@code HistoryFootprint} of {@code versionCount} states taking up {@code estimatedBytes}.
+     */
+    public HistoryFootprint(int versionCount, long estimatedBytes, HistoryBudget budget) {
+        requireNonNull(budget);
+        this.versionCount = versionCount;
+        this.estimatedBytes = estimatedBytes;
+        this.budget = budget;
+    }
+
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public HistoryBudget getBudget() {
+        return budget;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistoryFootprint)) { //this handles null as well.
+            return false;
+        }
+
+        HistoryFootprint o = (HistoryFootprint) other;
+
+        return versionCount == o.versionCount
+                && estimatedBytes == o.estimatedBytes
+                && budget.equals(o.budget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(versionCount, estimatedBytes, budget);
+    }
+
+    @Override
+    public String toString() {
+        return versionCount + " versions, about " + estimatedBytes + " bytes";
+    }
+}
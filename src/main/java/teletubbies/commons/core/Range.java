@@ -1,36 +1,143 @@
 package teletubbies.commons.core;
 
-import java.util.Set;
-import java.util.stream.Collectors;
+import static java.util.Objects.requireNonNull;
 
-import teletubbies.commons.core.index.Index;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
 
+/**
+ * A set of positions in a list, such as the persons selected by {@code tag 1-10} or {@code tag 1,3,5}.
+ *
+ * The positions are held as sorted, disjoint intervals of zero-based indices rather than one object per position,
+ * so a range of any length takes space proportional to the number of intervals. The range is checked against the
+ * size of a list with a single comparison, and its positions are iterated in list order without boxing.
+ */
 public class Range {
 
     public static final String MESSAGE_ILLEGAL_RANGE = "Range contains values outside of the list!\n"
         + "Range values must be no greater than %d";
 
-    private final Set<Index> values;
+    // Interval i covers the zero-based indices from starts[i] inclusive to ends[i] exclusive.
+    private final int[] starts;
+    private final int[] ends;
+    private final int size;
 
     /**
      * Creates a new {@code Range} from a set of one-based indices.
      */
     public Range(Set<Integer> values) {
-        this.values = values.stream()
-                .map(Index::fromOneBased)
-                .collect(Collectors.toUnmodifiableSet());
+        requireNonNull(values);
+        int[] sortedValues = values.stream().mapToInt(Integer::intValue).sorted().toArray();
+        if (sortedValues.length > 0 && sortedValues[0] < 1) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int intervalCount = 0;
+        int[] newStarts = new int[sortedValues.length];
+        int[] newEnds = new int[sortedValues.length];
+        for (int value : sortedValues) {
+            int zeroBased = value - 1;
+            if (intervalCount > 0 && newEnds[intervalCount - 1] == zeroBased) {
+                newEnds[intervalCount - 1]++;
+            } else {
+                newStarts[intervalCount] = zeroBased;
+                newEnds[intervalCount] = zeroBased + 1;
+                intervalCount++;
+            }
+        }
+        starts = Arrays.copyOf(newStarts, intervalCount);
+        ends = Arrays.copyOf(newEnds, intervalCount);
+        size = sortedValues.length;
+    }
+
+    private Range(int zeroBasedStart, int zeroBasedEnd) {
+        starts = new int[] {zeroBasedStart};
+        ends = new int[] {zeroBasedEnd};
+        size = zeroBasedEnd - zeroBasedStart;
+    }
+
+    /**
+     * Creates a new {@code Range} of the one-based indices from {@code oneBasedStart} to {@code oneBasedEnd},
+     * both inclusive.
+     */
+    public static Range between(int oneBasedStart, int oneBasedEnd) {
+        if (oneBasedStart < 1 || oneBasedEnd < oneBasedStart) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new Range(oneBasedStart - 1, oneBasedEnd);
+    }
+
+    /**
+     * Returns the number of positions in the range.
+     */
+    public int size() {
+        return size;
     }
 
-    public Set<Index> getRangeValues() {
-        return values;
+    /**
+     * Returns true if every position in the range is within a list of {@code listSize} elements.
+     */
+    public boolean isWithin(int listSize) {
+        return starts.length == 0 || ends[ends.length - 1] <= listSize;
+    }
+
+    /**
+     * Returns an iterator over the zero-based indices in the range, in increasing order.
+     */
+    public PrimitiveIterator.OfInt zeroBasedIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int interval;
+            private int next = starts.length == 0 ? 0 : starts[0];
+
+            @Override
+            public boolean hasNext() {
+                return interval < starts.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int current = next++;
+                if (next == ends[interval]) {
+                    interval++;
+                    if (interval < starts.length) {
+                        next = starts[interval];
+                    }
+                }
+                return current;
+            }
+        };
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Range // instanceof handles nulls
-                && values.containsAll(((Range) other).values)
-                && ((Range) other).values.containsAll(values)); // state check
+                && Arrays.equals(starts, ((Range) other).starts)
+                && Arrays.equals(ends, ((Range) other).ends)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
     }
 
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) {
+                builder.append(",");
+            }
+            builder.append(starts[i] + 1);
+            if (ends[i] - starts[i] > 1) {
+                builder.append("-").append(ends[i]);
+            }
+        }
+        return builder.toString();
+    }
 }
@@ -2,7 +2,8 @@ package teletubbies.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
@@ -17,7 +18,9 @@ public class InvalidationListenerManager {
     // Reused from InvalidationListenerManager.java located in
     // /src/main/java/seedu/address/commons/util/InvalidationListenerManager.java
     // in https://github.com/se-edu/addressbook-level4 with minor modifications
-    private final ArrayList<InvalidationListener> listeners = new ArrayList<>();
+    // Listeners are called far more often than they are added or removed, so the list is copied on modification
+    // instead, which still lets a listener add or remove listeners while being called.
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Calls {@link InvalidationListener#invalidated(Observable)} for each listener in listeners.
@@ -25,9 +28,7 @@ public class InvalidationListenerManager {
      * @param observable The {@code Observable} to be invalidated by all listeners.
      */
     public void callListeners(Observable observable) {
-        ArrayList<InvalidationListener> copyOfListeners = new ArrayList<>(listeners);
-
-        for (InvalidationListener listener: copyOfListeners) {
+        for (InvalidationListener listener: listeners) {
             listener.invalidated(observable);
         }
     }
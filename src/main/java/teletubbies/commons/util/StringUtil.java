@@ -66,4 +66,50 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxEdits} single character
+     * insertions, deletions or substitutions.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("alice", "alicr", 1) == true
+     *       isWithinEditDistance("alice", "alce", 1) == true
+     *       isWithinEditDistance("alice", "alcie", 1) == false
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxEdits cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxEdits >= 0, "Maximum number of edits cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = currentRow[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                // Distances never decrease from one row to the next
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()] <= maxEdits;
+    }
 }
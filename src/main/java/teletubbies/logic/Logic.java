@@ -1,6 +1,7 @@
 package teletubbies.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import teletubbies.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import teletubbies.commons.core.UserProfile;
 import teletubbies.logic.commands.CommandResult;
 import teletubbies.logic.commands.exceptions.CommandException;
 import teletubbies.logic.parser.exceptions.ParseException;
+import teletubbies.model.CompletionStatusCounter;
 import teletubbies.model.Model;
 import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.model.person.Person;
@@ -25,6 +27,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Reports the message of every failure to save the address book in the background to {@code handler}.
+     * The handler is called on the thread saving the address book.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Saves the changes to the address book that have not been saved yet, and stops saving in the background.
+     */
+    void flushSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -35,6 +48,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the live counts of each completion status in the filtered list of persons */
+    CompletionStatusCounter getCompletionStatusCounter();
+
     /** Returns the current user profile stored in preferences.json. */
     UserProfile getUserProfile();
 
@@ -1,7 +1,7 @@
 package teletubbies.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,40 +12,36 @@ import teletubbies.logic.commands.Command;
 import teletubbies.logic.commands.CommandResult;
 import teletubbies.logic.commands.exceptions.CommandException;
 import teletubbies.logic.parser.exceptions.ParseException;
+import teletubbies.model.CompletionStatusCounter;
 import teletubbies.model.Model;
 import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.model.person.Person;
 import teletubbies.storage.Storage;
+import teletubbies.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final long SAVE_DELAY_MILLIS = 500;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindAddressBookSaver saver;
     private final teletubbies.logic.parser.InputParser inputParser;
 
-    //@@author pyokagan
-    // Reused from
-    // https://github.com/se-edu/addressbook-level4/blob/master/src/main/java/seedu/address/logic/LogicManager.java
-    // with minor modifications
-    private boolean isModified;
-    //@@author pyokagan
+    // The version of the address book when it was last saved, so that it is only saved again once its persons change.
+    private long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        saver = new WriteBehindAddressBookSaver(storage, SAVE_DELAY_MILLIS);
         inputParser = new teletubbies.logic.parser.InputParser();
-        //@@author pyokagan
-        // Adapted from
-        // https://github.com/se-edu/addressbook-level4/blob/master/src/main/java/seedu/address/logic/LogicManager.java
-        model.addListener(observable -> isModified = true);
+        savedVersion = model.getAddressBookVersion();
     }
 
     @Override
@@ -56,18 +52,25 @@ public class LogicManager implements Logic {
         Command command = inputParser.parseCommand(commandText);
         CommandResult commandResult = command.execute(model);
 
+        boolean isModified = model.getAddressBookVersion() != savedVersion;
         if (isModified && !model.isAwaitingExportConfirmation()) {
             logger.info("AddressBook was modified; saving to file.");
-            try {
-                storage.saveAddressBook(model.getAddressBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            saver.requestSave(model.getAddressBookSnapshot());
         }
-        isModified = false;
+        savedVersion = model.getAddressBookVersion();
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saver.setFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flushSaves() {
+        saver.close();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -78,6 +81,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public CompletionStatusCounter getCompletionStatusCounter() {
+        return model.getCompletionStatusCounter();
+    }
+
     @Override
     public UserProfile getUserProfile() {
         return model.getUserProfile();
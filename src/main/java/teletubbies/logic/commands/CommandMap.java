@@ -30,6 +30,7 @@ public class CommandMap {
         classMap.put(RemoveTagCommand.COMMAND_WORD, RemoveTagCommand.class);
         classMap.put(TagCommand.COMMAND_WORD, TagCommand.class);
         classMap.put(RemarkCommand.COMMAND_WORD, RemarkCommand.class);
+        classMap.put(UndoStatsCommand.COMMAND_WORD, UndoStatsCommand.class);
     }
 
     public static Class<? extends Command> getClass(String commandWord) {
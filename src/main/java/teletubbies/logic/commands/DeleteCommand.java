@@ -62,14 +62,8 @@ public class DeleteCommand extends Command {
         model.cancelPendingExport();
 
         if (isPhonePrefix) {
-            List<Person> list = model.getAddressBook().getPersonList();
-
-            if (list.stream().noneMatch(p -> p.getPhone().equals(targetPhone))) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_PHONE_NUMBER);
-            }
-
-            Person personToDelete = list.stream().filter(p -> p.getPhone().equals(targetPhone))
-                    .findFirst().get();
+            Person personToDelete = model.getPhoneIndex().get(targetPhone).orElseThrow(() ->
+                    new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_PHONE_NUMBER));
 
             model.deletePerson(personToDelete);
             model.commitAddressBook();
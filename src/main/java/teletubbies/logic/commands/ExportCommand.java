@@ -3,16 +3,16 @@ package teletubbies.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static teletubbies.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import teletubbies.logic.commands.exceptions.CommandException;
 import teletubbies.logic.parser.Prefix;
 import teletubbies.model.Model;
 import teletubbies.model.person.Person;
-import teletubbies.model.person.PersonHasTagsPredicate;
+import teletubbies.model.person.Uuid;
 import teletubbies.model.tag.Tag;
 
 /**
@@ -37,8 +37,7 @@ public class ExportCommand extends Command {
         requireNonNull(model);
         model.cancelPendingExport();
 
-        ObservableList<Person> personObservableList = model.getFilteredPersonList();
-        List<Person> filteredPersonList = filterPersonList(personObservableList);
+        List<Person> filteredPersonList = filterPersonList(model);
         model.updateExportList(filteredPersonList);
 
         String feedbackMessage = (tags.isEmpty()
@@ -51,16 +50,25 @@ public class ExportCommand extends Command {
     }
 
     /**
-     * Filters persons to those with specified tags
+     * Filters the persons currently shown to those with specified tags, keeping their order.
+     * The persons holding all the tags are found by intersecting their postings in the model's tag index.
      *
-     * @param personList person list to filter
+     * @param model model holding the persons to filter
      * @return filtered list of persons
      */
-    public List<Person> filterPersonList(List<Person> personList) {
+    public List<Person> filterPersonList(Model model) {
         requireNonNull(tags);
+        List<Person> personList = model.getFilteredPersonList();
+        if (tags.isEmpty()) {
+            return new ArrayList<>(personList);
+        }
 
+        Set<Uuid> matchingUuids = model.getTagIndex().getUuidsHoldingAll(tags);
+        if (matchingUuids.isEmpty()) {
+            return new ArrayList<>();
+        }
         return personList.stream()
-                .filter(new PersonHasTagsPredicate(tags))
+                .filter(person -> matchingUuids.contains(person.getUuid()))
                 .collect(Collectors.toList());
     }
 
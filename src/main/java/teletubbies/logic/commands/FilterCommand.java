@@ -1,17 +1,23 @@
 package teletubbies.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static teletubbies.logic.parser.CliSyntax.PREFIX_PHONE;
 import static teletubbies.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import teletubbies.commons.core.Messages;
 import teletubbies.logic.parser.Prefix;
 import teletubbies.model.Model;
+import teletubbies.model.person.Person;
 import teletubbies.model.person.PersonHasTagsPredicate;
+import teletubbies.model.person.PhoneStartsWithPredicate;
 
 /**
- * Filters and lists all persons in person list whose who contain the specified tags.
+ * Filters and lists all persons in person list whose who contain the specified tags, and whose phone number starts
+ * with the specified digits if given.
  * Tag matching is case-sensitive.
  */
 public class FilterCommand extends Command {
@@ -21,14 +27,28 @@ public class FilterCommand extends Command {
     public static final List<Prefix> RECOMMENDED_FLAGS = List.of(PREFIX_TAG);
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters person to only those with the specified "
-            + "tag names and values (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: " + PREFIX_TAG + " TAGNAME[: TAGVALUE] [-t TAGNAME[: TAGVALUE]]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + " CompletionStatus: COMPLETE";
+            + "tag names and values (case-sensitive), and with a phone number starting with the specified digits, "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: [" + PREFIX_TAG + " TAGNAME[: TAGVALUE]]... [" + PREFIX_PHONE + " PHONE_PREFIX]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + " CompletionStatus: COMPLETE\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + " 6512";
 
     private final PersonHasTagsPredicate predicate;
+    private final Optional<PhoneStartsWithPredicate> phonePredicate;
 
     public FilterCommand(PersonHasTagsPredicate predicate) {
+        this(predicate, Optional.empty());
+    }
+
+    /**
+     * Creates a FilterCommand for persons with the tags of {@code predicate} whose phone number also satisfies
+     * {@code phonePredicate}, if present.
+     */
+    public FilterCommand(PersonHasTagsPredicate predicate, Optional<PhoneStartsWithPredicate> phonePredicate) {
+        requireNonNull(predicate);
+        requireNonNull(phonePredicate);
         this.predicate = predicate;
+        this.phonePredicate = phonePredicate;
     }
 
     @Override
@@ -36,7 +56,11 @@ public class FilterCommand extends Command {
         requireNonNull(model);
         model.cancelPendingExport();
 
-        model.updateFilteredPersonList(predicate);
+        Predicate<Person> indexedPredicate = predicate.withTagIndex(model.getTagIndex());
+        if (phonePredicate.isPresent()) {
+            indexedPredicate = indexedPredicate.and(phonePredicate.get().withPhoneIndex(model.getPhoneIndex()));
+        }
+        model.updateFilteredPersonList(indexedPredicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -45,6 +69,7 @@ public class FilterCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FilterCommand // instanceof handles nulls
-                && predicate.equals(((FilterCommand) other).predicate)); // state check
+                && predicate.equals(((FilterCommand) other).predicate) // state check
+                && phonePredicate.equals(((FilterCommand) other).phonePredicate));
     }
 }
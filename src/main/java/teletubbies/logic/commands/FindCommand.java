@@ -1,6 +1,7 @@
 package teletubbies.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static teletubbies.logic.parser.CliSyntax.PREFIX_APPROXIMATE;
 
 import teletubbies.commons.core.Messages;
 import teletubbies.model.Model;
@@ -16,8 +17,11 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + PREFIX_APPROXIMATE + ", names with words that start with a keyword or that differ from it by "
+            + "a typo or two are found as well.\n"
+            + "Parameters: [" + PREFIX_APPROXIMATE + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_APPROXIMATE + " alcie bo";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -30,7 +34,7 @@ public class FindCommand extends Command {
         requireNonNull(model);
         model.cancelPendingExport();
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate.withNameTokenIndex(model.getNameTokenIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
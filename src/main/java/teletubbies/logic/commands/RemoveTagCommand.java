@@ -64,25 +64,34 @@ public class RemoveTagCommand extends Command {
         List<String> feedbackMessages = new ArrayList<>();
         List<Person> rangePersons = getPersonsFromRange(model, range);
         Role userRole = model.getUserRole();
+        model.beginTransaction();
         int entryCount = 0;
-
-        for (Person p: rangePersons) {
-            Set<Tag> tags = new HashSet<>(p.getTags());
-            Optional<Tag> matchingTag = TagUtils.findMatchingTag(tags, tagName);
-            Set<Tag> newTags = getRemovedTagSet(tags, matchingTag, userRole, feedbackMessages);
-            if (tags.size() > newTags.size()) {
-                entryCount++;
+        try {
+            for (Person p: rangePersons) {
+                Set<Tag> tags = new HashSet<>(p.getTags());
+                Optional<Tag> matchingTag = TagUtils.findMatchingTag(tags, tagName);
+                Set<Tag> newTags = getRemovedTagSet(tags, matchingTag, userRole, feedbackMessages);
+                if (tags.size() > newTags.size()) {
+                    entryCount++;
+                }
+
+                Person editedPerson = new Person(p.getUuid(), p.getName(), p.getPhone(), p.getEmail(),
+                        p.getAddress(), p.getCompletionStatus(), p.getRemark(), newTags);
+
+                model.setPerson(p, editedPerson);
             }
-
-            Person editedPerson = new Person(p.getUuid(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getAddress(), p.getCompletionStatus(), p.getRemark(), newTags);
-
-            model.setPerson(p, editedPerson);
+        } catch (RuntimeException e) {
+            // Left open, the transaction would stage every later edit without ever applying it
+            model.rollbackTransaction();
+            throw e;
+        }
+        // Persons are only edited if the user may edit the tag of every person in the range
+        if (!feedbackMessages.isEmpty()) {
+            model.rollbackTransaction();
+            throwMessages(feedbackMessages);
         }
-        // Throw messages if present
-        throwMessages(feedbackMessages);
 
-        model.commitAddressBook();
+        model.commitTransaction();
         return new CommandResult(String.format(MESSAGE_COMPLETED_SUCCESS, entryCount));
     }
 
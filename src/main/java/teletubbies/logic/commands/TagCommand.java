@@ -72,25 +72,37 @@ public class TagCommand extends Command {
         List<String> feedbackMessages = new ArrayList<>();
         List<Person> rangePersons = getPersonsFromRange(model, range);
         Role userRole = model.getUserRole();
-
-        for (Person p: rangePersons) {
-            Set<Tag> tags = p.getTags();
-            Optional<Tag> matchingTag = TagUtils.findMatchingTag(tags, tagName);
-            Tag newTag = generateNewTag(matchingTag, feedbackMessages, userRole);
-
-            Set<Tag> newTags = new HashSet<>(tags);
-            newTags.remove(newTag);
-            newTags.add(newTag);
-
-            Person editedPerson = new Person(p.getUuid(), p.getName(), p.getPhone(), p.getEmail(),
-                    p.getAddress(), p.getCompletionStatus(), p.getRemark(), newTags);
-
-            model.setPerson(p, editedPerson);
+        model.beginTransaction();
+        try {
+            for (Person p: rangePersons) {
+                Set<Tag> tags = p.getTags();
+                Optional<Tag> matchingTag = TagUtils.findMatchingTag(tags, tagName);
+                Tag newTag = generateNewTag(matchingTag, feedbackMessages, userRole);
+                if (newTag == null) {
+                    continue;
+                }
+
+                Set<Tag> newTags = new HashSet<>(tags);
+                newTags.remove(newTag);
+                newTags.add(newTag);
+
+                Person editedPerson = new Person(p.getUuid(), p.getName(), p.getPhone(), p.getEmail(),
+                        p.getAddress(), p.getCompletionStatus(), p.getRemark(), newTags);
+
+                model.setPerson(p, editedPerson);
+            }
+        } catch (RuntimeException e) {
+            // Left open, the transaction would stage every later edit without ever applying it
+            model.rollbackTransaction();
+            throw e;
+        }
+        // Persons are only edited if the user may edit the tag of every person in the range
+        if (!feedbackMessages.isEmpty()) {
+            model.rollbackTransaction();
+            throwMessages(feedbackMessages);
         }
-        // Throw messages if present
-        throwMessages(feedbackMessages);
 
-        model.commitAddressBook();
+        model.commitTransaction();
         return new CommandResult(MESSAGE_COMPLETED_SUCCESS);
     }
 
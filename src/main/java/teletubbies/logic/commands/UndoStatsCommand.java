@@ -0,0 +1,60 @@
+package teletubbies.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.commons.core.HistoryFootprint;
+import teletubbies.model.Model;
+
+/**
+ * Shows how many address book states are kept for undo/redo and the estimated memory they take up.
+ */
+public class UndoStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "undostats";
+    public static final String MESSAGE_SUCCESS = "Undo history: %1$d versions, taking up about %2$s.\n"
+            + "Budget: %3$s.";
+    public static final String MESSAGE_UNLIMITED = "unlimited";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.cancelPendingExport();
+
+        HistoryFootprint footprint = model.getAddressBookHistoryFootprint();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, footprint.getVersionCount(),
+                formatBytes(footprint.getEstimatedBytes()), formatBudget(footprint.getBudget())));
+    }
+
+    private static String formatBudget(HistoryBudget budget) {
+        String maxVersions = budget.getMaxVersions() == 0 ? MESSAGE_UNLIMITED : budget.getMaxVersions() + " versions";
+        String maxBytes = budget.getMaxBytes() == 0 ? MESSAGE_UNLIMITED : formatBytes(budget.getMaxBytes());
+        return "at most " + maxVersions + ", at most " + maxBytes;
+    }
+
+    /**
+     * Returns {@code bytes} in the largest unit in which it is at least 1, to one decimal place.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB"};
+        double size = bytes;
+        int unit = -1;
+        while (size >= 1024 && unit < units.length - 1) {
+            size /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", size, units[unit]);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        return obj instanceof UndoStatsCommand;
+    }
+}
@@ -11,8 +11,8 @@ import teletubbies.commons.core.LogsCenter;
 import teletubbies.commons.exceptions.DataConversionException;
 import teletubbies.commons.util.StringUtil;
 import teletubbies.logic.commands.exceptions.CommandException;
-import teletubbies.model.AddressBook;
 import teletubbies.model.Model;
+import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.storage.JsonAddressBookStorage;
 import teletubbies.ui.MainWindow;
 
@@ -33,7 +33,7 @@ public class ExportUiConsumer implements UiConsumer {
         requireNonNull(fileToSave);
 
         String pathString = includeDotJson(fileToSave.getPath());
-        AddressBook ab = model.getExportAddressBook();
+        ReadOnlyAddressBook ab = model.getExportAddressBook();
         saveAddressBookToPath(ab, pathString);
     }
 
@@ -45,7 +45,7 @@ public class ExportUiConsumer implements UiConsumer {
      * @param pathString Path string for saving
      * @throws CommandException
      */
-    public void saveAddressBookToPath(AddressBook ab, String pathString) throws CommandException {
+    public void saveAddressBookToPath(ReadOnlyAddressBook ab, String pathString) throws CommandException {
         try {
             new JsonAddressBookStorage(Paths.get(pathString)).saveAddressBook(ab);
         } catch (IOException ioe) {
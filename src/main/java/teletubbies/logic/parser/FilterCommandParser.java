@@ -3,12 +3,14 @@ package teletubbies.logic.parser;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 
 import teletubbies.commons.core.Messages;
 import teletubbies.logic.commands.FilterCommand;
 import teletubbies.logic.parser.exceptions.ParseException;
 import teletubbies.model.person.PersonHasTagsPredicate;
+import teletubbies.model.person.PhoneStartsWithPredicate;
 import teletubbies.model.tag.Tag;
 
 /**
@@ -24,18 +26,22 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     public FilterCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                CliSyntax.PREFIX_TAG);
+                CliSyntax.PREFIX_TAG, CliSyntax.PREFIX_PHONE);
 
         Collection<String> tagValues = argMultimap.getAllValues(CliSyntax.PREFIX_TAG).getValues();
+        Optional<String> phonePrefix = argMultimap.getValue(CliSyntax.PREFIX_PHONE);
 
-        if (tagValues.size() <= 0) {
+        if (tagValues.size() <= 0 && phonePrefix.isEmpty()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
                     FilterCommand.MESSAGE_USAGE));
         }
 
         Set<Tag> tagStrings = ParserUtil.parseTagsWithValue(tagValues);
+        Optional<PhoneStartsWithPredicate> phonePredicate = phonePrefix.isPresent()
+                ? Optional.of(new PhoneStartsWithPredicate(ParserUtil.parsePhonePrefix(phonePrefix.get())))
+                : Optional.empty();
 
-        return new FilterCommand(new PersonHasTagsPredicate(tagStrings));
+        return new FilterCommand(new PersonHasTagsPredicate(tagStrings), phonePredicate);
     }
 
 }
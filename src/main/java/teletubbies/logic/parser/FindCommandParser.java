@@ -1,5 +1,7 @@
 package teletubbies.logic.parser;
 
+import static teletubbies.logic.parser.CliSyntax.PREFIX_APPROXIMATE;
+
 import java.util.Arrays;
 
 import teletubbies.commons.core.Messages;
@@ -18,7 +20,10 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_APPROXIMATE);
+        boolean isApproximate = argMultimap.getAllValues(PREFIX_APPROXIMATE).isPresent();
+        String trimmedArgs = (argMultimap.getPreamble() + " "
+                + String.join(" ", argMultimap.getAllValues(PREFIX_APPROXIMATE).getValues())).trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -26,7 +31,7 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords), isApproximate));
     }
 
 }
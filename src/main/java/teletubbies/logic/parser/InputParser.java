@@ -26,6 +26,7 @@ import teletubbies.logic.commands.RemarkCommand;
 import teletubbies.logic.commands.RemoveTagCommand;
 import teletubbies.logic.commands.TagCommand;
 import teletubbies.logic.commands.UndoCommand;
+import teletubbies.logic.commands.UndoStatsCommand;
 import teletubbies.logic.parser.exceptions.ParseException;
 
 /**
@@ -115,6 +116,9 @@ public class InputParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case UndoStatsCommand.COMMAND_WORD:
+            return new UndoStatsCommand();
+
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
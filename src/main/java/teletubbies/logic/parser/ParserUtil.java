@@ -7,7 +7,6 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import teletubbies.commons.core.Range;
@@ -75,7 +74,7 @@ public class ParserUtil {
         if (start > end) {
             throw new ParseException(MESSAGE_INVALID_RANGE_LIMITS);
         }
-        return new Range(IntStream.rangeClosed(start, end).boxed().collect(Collectors.toSet()));
+        return Range.between(start, end);
     }
 
     /**
@@ -140,6 +139,21 @@ public class ParserUtil {
         return new Phone(trimmedPhone);
     }
 
+    /**
+     * Parses a {@code String prefix} of a phone number, such as an area code.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code prefix} is invalid.
+     */
+    public static String parsePhonePrefix(String prefix) throws ParseException {
+        requireNonNull(prefix);
+        String trimmedPrefix = prefix.trim();
+        if (!Phone.isValidPhonePrefix(trimmedPrefix)) {
+            throw new ParseException(Phone.PREFIX_MESSAGE_CONSTRAINTS);
+        }
+        return trimmedPrefix;
+    }
+
     /**
      * Parses a {@code String address} into an {@code Address}.
      * Leading and trailing whitespaces will be trimmed.
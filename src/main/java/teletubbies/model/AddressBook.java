@@ -2,17 +2,28 @@ package teletubbies.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import teletubbies.commons.util.InvalidationListenerManager;
+import teletubbies.model.person.NameTokenIndex;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
+import teletubbies.model.person.PhoneIndex;
+import teletubbies.model.person.TagIndex;
 import teletubbies.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Besides the coarse notification that the address book has been modified, every change to its persons is reported
+ * to {@code PersonChangeListener}s as a numbered {@code PersonChangeEvent}, so that they can update incrementally.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -22,6 +33,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     // with minor modifications
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
     //@@author pyokagan and Zhiyuan-Amos
+    private final List<PersonChangeListener> personChangeListeners = new CopyOnWriteArrayList<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -32,6 +45,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        persons.asUnmodifiableObservableList().addListener(this::onPersonListChanged);
     }
 
     public AddressBook() {}
@@ -61,6 +75,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // Persons of another AddressBook are already known to be unique, so its indexes can be reused as is.
+            persons.setPersons(((AddressBook) newData).persons);
+            indicateModified();
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -112,6 +132,49 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
+    /**
+     * Makes {@code changes} to the person list, in order.
+     * The person list must be in the state the first change was made from.
+     */
+    void applyChanges(List<PersonListChange> changes) {
+        for (PersonListChange change : changes) {
+            change.applyTo(persons);
+        }
+        indicateModified();
+    }
+
+    /**
+     * Undoes {@code changes} to the person list, in reverse order.
+     * The person list must be in the state the last change resulted in.
+     */
+    void revertChanges(List<PersonListChange> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revertOn(persons);
+        }
+        indicateModified();
+    }
+
+    /**
+     * Returns the index of the tags held by persons in the address book.
+     */
+    public TagIndex getTagIndex() {
+        return persons.getTagIndex();
+    }
+
+    /**
+     * Returns the index of the phone numbers of persons in the address book.
+     */
+    public PhoneIndex getPhoneIndex() {
+        return persons.getPhoneIndex();
+    }
+
+    /**
+     * Returns the index of the words in the names of persons in the address book.
+     */
+    public NameTokenIndex getNameTokenIndex() {
+        return persons.getNameTokenIndex();
+    }
+
     //@@author pyokagan and Zhiyuan-Amos
     // Reused from https://github.com/se-edu/addressbook-level4/commit/9582d6ac94fcbd939f243b054332e98974d6c738
     // with minor modifications
@@ -134,11 +197,76 @@ public class AddressBook implements ReadOnlyAddressBook {
     //@@author pyokagan and Zhiyuan-Amos
 
     /**
-     * Replaces the given person {@code personToMerge} in the address book.
-     * @param personToMerge Person from file being merged.
+     * Reports every change to the persons of this address book to {@code listener}.
+     */
+    public void addPersonChangeListener(PersonChangeListener listener) {
+        requireNonNull(listener);
+        personChangeListeners.add(listener);
+    }
+
+    /**
+     * Stops reporting changes to {@code listener}.
+     * If the given listener was not previously added, then this method call is a no-op.
+     */
+    public void removePersonChangeListener(PersonChangeListener listener) {
+        requireNonNull(listener);
+        personChangeListeners.remove(listener);
+    }
+
+    /**
+     * Returns the version number of the latest change to the persons of this address book, or 0 if there has been
+     * none.
      */
-    public void mergePerson(Person personToMerge) {
-        persons.mergePerson(personToMerge);
+    public long getVersion() {
+        return version;
+    }
+
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            version++;
+            if (personChangeListeners.isEmpty()) {
+                continue;
+            }
+            PersonChangeEvent event = toPersonChangeEvent(version, change);
+            for (PersonChangeListener listener : personChangeListeners) {
+                listener.onPersonsChanged(event);
+            }
+        }
+    }
+
+    /**
+     * Returns the event numbered {@code version} for the current step of {@code change}.
+     */
+    static PersonChangeEvent toPersonChangeEvent(long version, ListChangeListener.Change<? extends Person> change) {
+        if (!change.wasPermutated()) {
+            return new PersonChangeEvent(version, change.getFrom(), change.getRemoved(), change.getAddedSubList());
+        }
+        // The persons in the permuted range are reported as replaced by themselves in their new order. The person
+        // that was at position i before the change is now at position getPermutation(i).
+        List<Person> before = new ArrayList<>(change.getTo() - change.getFrom());
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            before.add(change.getList().get(change.getPermutation(i)));
+        }
+        return new PersonChangeEvent(version, change.getFrom(), before,
+                change.getList().subList(change.getFrom(), change.getTo()));
+    }
+
+    /**
+     * Replaces each person that is a key of {@code editedPersons} with the person it maps to, as a single change.
+     * Every person replaced must exist in the address book, and the result must not contain duplicate persons.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        persons.replacePersons(editedPersons);
+        indicateModified();
+    }
+
+    /**
+     * Merges {@code personsToMerge} into the address book, replacing the persons with the same uuid and adding the
+     * rest. The phone numbers of the merged address book must be unique.
+     */
+    public void mergePersons(List<Person> personsToMerge) {
+        persons.mergePersons(personsToMerge);
+        indicateModified();
     }
 
     //// util methods
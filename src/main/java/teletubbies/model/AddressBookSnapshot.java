@@ -0,0 +1,125 @@
+package teletubbies.model;
+
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import teletubbies.commons.util.CollectionUtil;
+import teletubbies.model.person.PersistentPersonList;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
+
+/**
+ * An immutable state of an address book, as kept by {@code VersionedAddressBook} for each version.
+ * Snapshots of successive versions share the parts of their {@code PersistentPersonList} that did not change.
+ *
+ * A snapshot also records the changes to the person list that led to it from the previous version, so that undoing
+ * or redoing a version only replays those changes. Two snapshots are equal if they hold the same persons, however
+ * they were reached.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final long UNKNOWN_VERSION = -1;
+
+    // Rough sizes in bytes of the objects kept for each version, used to estimate the memory taken up by undo history.
+    private static final long SNAPSHOT_BYTES = 64;
+    private static final long CHANGE_BYTES = 64;
+    private static final long PERSON_BYTES = 1024;
+    private static final long TREE_NODE_BYTES = 32;
+
+    private final PersistentPersonList persons;
+    private final List<PersonListChange> changes;
+    private final long version;
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot of version {@code version} of an address book, holding {@code persons}, which was reached
+     * from the previous version through {@code changes}.
+     */
+    public AddressBookSnapshot(PersistentPersonList persons, List<PersonListChange> changes, long version) {
+        CollectionUtil.requireAllNonNull(persons, changes);
+        this.persons = persons;
+        this.changes = List.copyOf(changes);
+        this.version = version;
+    }
+
+    /**
+     * Creates a snapshot of an address book holding {@code persons}, which was reached from the previous version
+     * through {@code changes}.
+     */
+    public AddressBookSnapshot(PersistentPersonList persons, List<PersonListChange> changes) {
+        this(persons, changes, UNKNOWN_VERSION);
+    }
+
+    /**
+     * Creates a snapshot of an address book holding {@code persons}, with no previous version.
+     */
+    public AddressBookSnapshot(PersistentPersonList persons) {
+        this(persons, List.of());
+    }
+
+    public PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the changes to the person list from the previous version to this one, in the order they were made.
+     */
+    public List<PersonListChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the version of the address book this is a snapshot of, as numbered by {@code AddressBook#getVersion()},
+     * or {@code UNKNOWN_VERSION} if it is not known.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an estimate of the memory taken up by keeping this snapshot in addition to the previous version.
+     * Each person changed is counted once for the person itself and once for every tree node copied on its path.
+     */
+    public long getEstimatedSize() {
+        long pathLength = 64 - Long.numberOfLeadingZeros(persons.size()) + 1;
+        long size = SNAPSHOT_BYTES;
+        for (PersonListChange change : changes) {
+            size += CHANGE_BYTES + change.getSize() * (PERSON_BYTES + pathLength * TREE_NODE_BYTES);
+        }
+        return size;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        }
+        return personList;
+    }
+
+    // A snapshot never changes, so there is nothing to notify its listeners of.
+    @Override
+    public void addListener(InvalidationListener listener) {}
+
+    @Override
+    public void removeListener(InvalidationListener listener) {}
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons\n" + persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                        && persons.equals(((AddressBookSnapshot) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
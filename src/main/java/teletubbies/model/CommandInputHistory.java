@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collections;
 import java.util.List;
 
+import teletubbies.commons.core.HistoryBudget;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.LatestVersionException;
 
@@ -12,7 +13,10 @@ import teletubbies.commons.exceptions.LatestVersionException;
  * A data structure to encapsulate the logic needed to store previous commands using HistoryManager.
  */
 public class CommandInputHistory {
-    private HistoryManager<String> inputHistory;
+    // Rough size in bytes of a stored input, apart from its characters.
+    private static final long INPUT_BYTES = 48;
+
+    private final HistoryManager<String> inputHistory;
 
     public CommandInputHistory() {
         this.inputHistory = new HistoryManager<>();
@@ -38,6 +42,13 @@ public class CommandInputHistory {
         return result;
     }
 
+    /**
+     * Keeps the inputs within {@code budget}, evicting the oldest inputs once it is exceeded.
+     */
+    public void setHistoryBudget(HistoryBudget budget) {
+        inputHistory.setBudget(budget, input -> INPUT_BYTES + 2L * input.length());
+    }
+
     /**
      * Adds an input to the top if the {@code HistoryManager} stack.
      * @param input to add to the top of the HistoryManager stack.
@@ -45,7 +56,7 @@ public class CommandInputHistory {
     public void addCommandInput(String input) {
         requireNonNull(input);
         inputHistory.resetFullHistory();
-        inputHistory = inputHistory.commitAndPush(input);
+        inputHistory.commitAndPush(input);
     }
 
     /**
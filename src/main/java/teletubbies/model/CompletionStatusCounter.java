@@ -0,0 +1,80 @@
+package teletubbies.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import teletubbies.model.person.Person;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+
+/**
+ * Keeps count of the persons in an {@code ObservableList} with each {@code CompletionStatus}.
+ * The counts are updated from the list's change events, so keeping them up to date costs time proportional to the
+ * number of persons added to or removed from the list, rather than to the size of the list.
+ */
+public class CompletionStatusCounter {
+
+    private final Map<CompletionStatus, ReadOnlyIntegerWrapper> counts = new EnumMap<>(CompletionStatus.class);
+
+    /**
+     * Creates a counter over {@code persons}, which keeps counting as the list changes.
+     */
+    public CompletionStatusCounter(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        int[] initialCounts = new int[CompletionStatus.values().length];
+        for (Person person : persons) {
+            initialCounts[statusOf(person).ordinal()]++;
+        }
+        for (CompletionStatus status : CompletionStatus.values()) {
+            counts.put(status, new ReadOnlyIntegerWrapper(initialCounts[status.ordinal()]));
+        }
+        persons.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the number of persons with {@code status}.
+     */
+    public int getCount(CompletionStatus status) {
+        return counts.get(status).get();
+    }
+
+    /**
+     * Returns the number of persons with {@code status} as a property, which only notifies its listeners when
+     * that number changes.
+     */
+    public ReadOnlyIntegerProperty countProperty(CompletionStatus status) {
+        return counts.get(status).getReadOnlyProperty();
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Person> change) {
+        // Deltas are applied once all changes are read, so a person replaced by another with the same status
+        // does not notify listeners.
+        int[] deltas = new int[CompletionStatus.values().length];
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                deltas[statusOf(removed).ordinal()]--;
+            }
+            for (Person added : change.getAddedSubList()) {
+                deltas[statusOf(added).ordinal()]++;
+            }
+        }
+        for (CompletionStatus status : CompletionStatus.values()) {
+            if (deltas[status.ordinal()] != 0) {
+                ReadOnlyIntegerWrapper count = counts.get(status);
+                count.set(count.get() + deltas[status.ordinal()]);
+            }
+        }
+    }
+
+    private static CompletionStatus statusOf(Person person) {
+        return person.getCompletionStatus().status;
+    }
+}
@@ -0,0 +1,56 @@
+package teletubbies.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import teletubbies.model.person.Person;
+
+/**
+ * A read-only address book of the persons staged for export.
+ * The view wraps the list of persons it is given instead of copying them, and never changes.
+ */
+public class ExportView implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates a view of {@code personsToExport}, which must not be modified afterwards.
+     */
+    public ExportView(List<Person> personsToExport) {
+        requireNonNull(personsToExport);
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(personsToExport));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    // The view never changes, so there is nothing to notify its listeners of.
+    @Override
+    public void addListener(InvalidationListener listener) {}
+
+    @Override
+    public void removeListener(InvalidationListener listener) {}
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons to export";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportView // instanceof handles nulls
+                        && persons.equals(((ExportView) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
@@ -1,26 +1,46 @@
 package teletubbies.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.EmptyHistoryManagerException;
 import teletubbies.commons.exceptions.LatestVersionException;
 
 /**
  * A stack-like data structure which will be used to store the history of states of any type T.
+ * The history can be kept within a {@code HistoryBudget}, in which case the oldest states are evicted whenever a
+ * new state takes the history over budget.
+ *
+ * The states are held in a ring buffer starting at {@code head}, which grows when full. Committing a new state
+ * truncates the redoable states and appends the new one in place, and evicting the oldest state only advances
+ * {@code head}, so each commit takes amortized constant time however long the history is.
  * @param <T> The type of class which will be managed by HistoryManager.
  */
 public class HistoryManager<T> {
 
-    private final ArrayList<T> historyStack;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] historyBuffer;
+    private int head;
+    private int size;
     private int stackPointer;
+    private HistoryBudget budget = HistoryBudget.UNLIMITED;
+    private ToLongFunction<? super T> sizeEstimator = item -> 0;
+    private Consumer<? super T> evictionListener = item -> {};
+    private long estimatedSize;
 
     /**
      * Creates an empty HistoryManager.
      */
     public HistoryManager() {
-        this.historyStack = new ArrayList<>();
+        this.historyBuffer = new Object[INITIAL_CAPACITY];
         this.stackPointer = -1;
     }
 
@@ -29,8 +49,40 @@ public class HistoryManager<T> {
      * @param history which refer to a predefined historical list of items.
      */
     public HistoryManager(List<T> history) {
-        this.historyStack = new ArrayList<>(history);
-        this.stackPointer = historyStack.size() - 1;
+        this.historyBuffer = history.toArray(new Object[Math.max(INITIAL_CAPACITY, history.size())]);
+        this.size = history.size();
+        this.stackPointer = size - 1;
+    }
+
+    /**
+     * Keeps the history within {@code budget}, using {@code sizeEstimator} to estimate the memory taken up by each
+     * state, and evicts the oldest states if it is already over budget.
+     */
+    public void setBudget(HistoryBudget budget, ToLongFunction<? super T> sizeEstimator) {
+        requireNonNull(budget);
+        requireNonNull(sizeEstimator);
+        this.budget = budget;
+        this.sizeEstimator = sizeEstimator;
+        this.estimatedSize = 0;
+        for (int i = 0; i < size; i++) {
+            estimatedSize += sizeEstimator.applyAsLong(get(i));
+        }
+        evictOldestStates();
+    }
+
+    /**
+     * Passes every state evicted from now on to {@code evictionListener}, oldest first.
+     */
+    public void setEvictionListener(Consumer<? super T> evictionListener) {
+        requireNonNull(evictionListener);
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns the number of states kept and the estimated memory they take up.
+     */
+    public HistoryFootprint getFootprint() {
+        return new HistoryFootprint(size, estimatedSize, budget);
     }
 
     /**
@@ -44,14 +96,14 @@ public class HistoryManager<T> {
      * Checks if the HistoryManager can be redone to a later version.
      */
     public boolean isRedoable() {
-        return stackPointer < historyStack.size() - 1;
+        return stackPointer < size - 1;
     }
 
     /**
      * Checks if the HistoryManager is empty.
      */
     public boolean isEmpty() {
-        return historyStack.isEmpty() || stackPointer < 0;
+        return size == 0 || stackPointer < 0;
     }
 
     /**
@@ -59,15 +111,18 @@ public class HistoryManager<T> {
      * @return copy of history up to {@code stackPointer}.
      */
     public List<T> historyList() {
-        return new ArrayList<>(historyStack.subList(0, stackPointer + 1));
+        List<T> history = new ArrayList<>(stackPointer + 1);
+        for (int i = 0; i <= stackPointer; i++) {
+            history.add(get(i));
+        }
+        return history;
     }
 
     /**
-     * Resets to the full history stored by {@code historyStack} by repointing {@code stackPointer} to the top of
-     * {@code historyStack}.
+     * Resets to the full history stored by repointing {@code stackPointer} to the latest state.
      */
     public void resetFullHistory() {
-        this.stackPointer = historyStack.size() - 1;
+        this.stackPointer = size - 1;
     }
 
     /**
@@ -79,24 +134,41 @@ public class HistoryManager<T> {
             return null;
         }
         assert stackPointer >= 0;
-        assert stackPointer < historyStack.size();
-        return historyStack.get(stackPointer);
+        assert stackPointer < size;
+        return get(stackPointer);
     }
 
     private void push(T item) {
-        if (!isRedoable()) {
-            historyStack.add(item);
-        } else {
-            historyStack.add(stackPointer + 1, item);
+        if (size == historyBuffer.length) {
+            grow();
+        }
+        historyBuffer[physicalIndex(size)] = item;
+        size++;
+        stackPointer = size - 1;
+        estimatedSize += sizeEstimator.applyAsLong(item);
+        evictOldestStates();
+    }
+
+    /**
+     * Adds {@code item} as the oldest state, such as to bring back a state that was evicted.
+     * The history is not checked against its budget, so that a state brought back is not evicted again right away.
+     */
+    public void addOldest(T item) {
+        if (size == historyBuffer.length) {
+            grow();
         }
+        head = (head - 1 + historyBuffer.length) % historyBuffer.length;
+        historyBuffer[head] = item;
+        size++;
         stackPointer++;
+        estimatedSize += sizeEstimator.applyAsLong(item);
     }
 
     private T pop() throws EmptyHistoryManagerException {
         if (isEmpty()) {
             throw new EmptyHistoryManagerException();
         }
-        T top = historyStack.get(stackPointer);
+        T top = get(stackPointer);
         stackPointer--;
         return top;
     }
@@ -124,20 +196,28 @@ public class HistoryManager<T> {
     }
 
     /**
-     * Commits the current history as stored by HistoryManager and pushes new state to the top of the {@code
-     * historyStack}. This ensures the immutability of historyStack and guarantees that if anything is added,
-     * stackPointer will point to the latest version, at the top of the {@code historyStack}.
+     * Commits the current history as stored by HistoryManager and pushes new state to the top of the history.
+     * This guarantees that if anything is added, stackPointer will point to the latest version, at the top of the
+     * history. The history is updated in place.
      * @param item The new state to be stored.
-     * @return A new HistoryManager with an updated history.
+     * @return This HistoryManager, with an updated history.
      */
     public HistoryManager<T> commitAndPush(T item) {
-        HistoryManager<T> copy = commit();
-        copy.push(item);
-        return copy;
+        clearRedoableStates();
+        push(item);
+        return this;
     }
 
-    private HistoryManager<T> commit() {
-        return HistoryManager.clearedCopy(this);
+    /**
+     * Clears the history after {@code stackPointer}, in place.
+     */
+    public void clearRedoableStates() {
+        for (int i = stackPointer + 1; i < size; i++) {
+            int index = physicalIndex(i);
+            estimatedSize -= sizeEstimator.applyAsLong(elementAt(index));
+            historyBuffer[index] = null;
+        }
+        size = stackPointer + 1;
     }
 
     /**
@@ -147,8 +227,49 @@ public class HistoryManager<T> {
      * @return A new HistoryManager that contains the history up to stackPointer.
      */
     public static <U> HistoryManager<U> clearedCopy(HistoryManager<U> original) {
-        List<U> sublist = original.historyStack.subList(0, original.stackPointer + 1);
-        return new HistoryManager<>(sublist);
+        HistoryManager<U> copy = new HistoryManager<>(original.historyList());
+        copy.setBudget(original.budget, original.sizeEstimator);
+        return copy;
+    }
+
+    /**
+     * Evicts the oldest states until the history is within budget, or until the current state is the oldest.
+     */
+    private void evictOldestStates() {
+        while (stackPointer > 0 && budget.isExceededBy(size, estimatedSize)) {
+            T evicted = elementAt(head);
+            estimatedSize -= sizeEstimator.applyAsLong(evicted);
+            historyBuffer[head] = null;
+            head = (head + 1) % historyBuffer.length;
+            size--;
+            stackPointer--;
+            evictionListener.accept(evicted);
+        }
+    }
+
+    private void grow() {
+        Object[] grown = new Object[historyBuffer.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = historyBuffer[physicalIndex(i)];
+        }
+        historyBuffer = grown;
+        head = 0;
+    }
+
+    /**
+     * Returns the state at position {@code index} of the history, counting from the oldest state.
+     */
+    private T get(int index) {
+        return elementAt(physicalIndex(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int physicalIndex) {
+        return (T) historyBuffer[physicalIndex];
+    }
+
+    private int physicalIndex(int index) {
+        return (head + index) % historyBuffer.length;
     }
 
     @Override
@@ -169,13 +290,13 @@ public class HistoryManager<T> {
             return false;
         }
 
-        if (oth.historyStack.size() != this.historyStack.size()) {
+        if (oth.size != this.size) {
             return false;
         }
 
-        for (int i = 0; i < this.historyStack.size(); i++) {
-            Object a = this.historyStack.get(i);
-            Object b = oth.historyStack.get(i);
+        for (int i = 0; i < this.size; i++) {
+            Object a = this.get(i);
+            Object b = oth.get(i);
             if (!a.equals(b)) {
                 return false;
             }
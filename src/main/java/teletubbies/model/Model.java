@@ -7,6 +7,7 @@ import java.util.function.Predicate;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.core.Range;
 import teletubbies.commons.core.UserProfile;
 import teletubbies.commons.core.UserProfile.Role;
@@ -14,7 +15,10 @@ import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.IllegalValueException;
 import teletubbies.commons.exceptions.LatestVersionException;
 import teletubbies.commons.exceptions.UserRoleSetException;
+import teletubbies.model.person.NameTokenIndex;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.PhoneIndex;
+import teletubbies.model.person.TagIndex;
 
 /**
  * The API of the Model component.
@@ -63,6 +67,49 @@ public interface Model {
      */
     void addListener(InvalidationListener listener);
 
+    /**
+     * Starts a transaction, in which the persons edited with {@link #setPerson(Person, Person)} are only staged.
+     * The address book is left unchanged until the transaction is committed. Only edits are staged: persons added or
+     * deleted within the transaction change the address book at once, and reads do not see the staged edits.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Applies the edits staged in the transaction to the address book as a single change, and commits the result
+     * as one version of the address book. Only the edits made with {@link #setPerson(Person, Person)} are staged;
+     * {@code addPerson} and {@code deletePerson} are not part of the transaction. The transaction is ended even if
+     * applying the edits fails, in which case the exception is passed on and no version is committed.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards the edits staged in the transaction, leaving the address book unchanged.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Adds a listener that is told of every change to the persons in the address book.
+     */
+    void addPersonChangeListener(PersonChangeListener listener);
+
+    /**
+     * Removes a listener added with {@link #addPersonChangeListener(PersonChangeListener)}.
+     */
+    void removePersonChangeListener(PersonChangeListener listener);
+
+    /**
+     * Returns the version number of the latest change to the persons in the address book.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns an immutable snapshot of the address book as it is now, which can be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -107,15 +154,33 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Within a transaction, the edit is staged until the transaction is committed.
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the index of the tags held by persons in the address book.
+     * The index stays up to date as the address book changes.
+     */
+    TagIndex getTagIndex();
+
+    /**
+     * Returns the index of the phone numbers of persons in the address book.
+     * The index stays up to date as the address book changes.
+     */
+    PhoneIndex getPhoneIndex();
+
+    /**
+     * Returns the index of the words in the names of persons in the address book.
+     * The index stays up to date as the address book changes.
+     */
+    NameTokenIndex getNameTokenIndex();
+
     /** Returns a list of persons from indices in a filtered person list */
     List<Person> getPersonsFromRange(Range range) throws IllegalValueException;
 
     /**
-     * Replaces the address book displayed to users with the list of persons to be exported.
-     * Original address book is stored as a copy until export is complete.
+     * Stages the list of persons to be exported and displays only them to users, without modifying the address book.
      * @param filteredPersonList Filtered list of persons containing user-specified tags.
      */
     void updateExportList(List<Person> filteredPersonList);
@@ -127,19 +192,22 @@ public interface Model {
     boolean isAwaitingExportConfirmation();
 
     /**
-     * Returns address book upon confirmation of export.
-     * @return Address book containing contacts to export.
+     * Returns the persons staged for export upon confirmation of export, and ends the pending export.
+     * @return Read-only address book containing contacts to export.
      */
-    AddressBook getExportAddressBook();
+    ReadOnlyAddressBook getExportAddressBook();
 
     /**
-     * Resets the address book if export is cancelled.
+     * Restores the displayed list of persons if export is cancelled.
      */
     void cancelPendingExport();
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the live counts of each completion status in the filtered person list */
+    CompletionStatusCounter getCompletionStatusCounter();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -147,7 +215,7 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Merges incoming address book with the current address book.
+     * Merges incoming address book with the current address book, as a single change to be committed.
      * @param addressBook Incoming address book to merge
      */
     void mergeAddressBook(ReadOnlyAddressBook addressBook);
@@ -217,4 +285,9 @@ public interface Model {
     void commitAddressBook();
     //@@author yamidark
 
+    /**
+     * Returns the number of address book states kept for undo/redo and the estimated memory they take up.
+     */
+    HistoryFootprint getAddressBookHistoryFootprint();
+
 }
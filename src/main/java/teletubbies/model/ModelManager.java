@@ -3,10 +3,14 @@ package teletubbies.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -14,17 +18,21 @@ import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.core.LogsCenter;
 import teletubbies.commons.core.Range;
 import teletubbies.commons.core.UserProfile;
 import teletubbies.commons.core.UserProfile.Role;
-import teletubbies.commons.core.index.Index;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.IllegalValueException;
 import teletubbies.commons.exceptions.LatestVersionException;
 import teletubbies.commons.exceptions.UserRoleSetException;
 import teletubbies.commons.util.CollectionUtil;
+import teletubbies.model.person.NameTokenIndex;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.PhoneIndex;
+import teletubbies.model.person.TagIndex;
+import teletubbies.model.person.Uuid;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -35,8 +43,12 @@ public class ModelManager implements Model {
     private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private boolean isAwaitingExportConfirmation;
-    private boolean isExportListModified;
+    private final CompletionStatusCounter completionStatusCounter;
+    private ExportView exportView;
+    // The persons edited in the current transaction, mapped to their edits, or null outside of a transaction.
+    private Map<Person, Person> stagedEdits;
+    private Map<Person, Person> stagedOriginals;
+    private Predicate<? super Person> predicateBeforeExport;
     private final CommandInputHistory inputHistory;
     private boolean firstUpArrowClicked = false;
 
@@ -52,7 +64,9 @@ public class ModelManager implements Model {
         this.versionedAddressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
+        completionStatusCounter = new CompletionStatusCounter(filteredPersons);
         this.inputHistory = new CommandInputHistory();
+        applyHistoryBudget();
     }
 
     public ModelManager() {
@@ -65,6 +79,21 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyHistoryBudget();
+    }
+
+    private void applyHistoryBudget() {
+        versionedAddressBook.setHistoryBudget(userPrefs.getHistoryBudget());
+        inputHistory.setHistoryBudget(userPrefs.getHistoryBudget());
+    }
+
+    /**
+     * Spills the address book states evicted from the undo history to {@code spillStore}, so that they can still be
+     * undone to.
+     */
+    public void setVersionSpillStore(VersionSpillStore spillStore) {
+        requireNonNull(spillStore);
+        versionedAddressBook.setSpillStore(spillStore);
     }
 
     @Override
@@ -104,6 +133,26 @@ public class ModelManager implements Model {
         versionedAddressBook.addListener(listener);
     }
 
+    @Override
+    public void addPersonChangeListener(PersonChangeListener listener) {
+        versionedAddressBook.addPersonChangeListener(listener);
+    }
+
+    @Override
+    public void removePersonChangeListener(PersonChangeListener listener) {
+        versionedAddressBook.removePersonChangeListener(listener);
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return versionedAddressBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return versionedAddressBook.getCurrentState();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return userPrefs.getAddressBookFilePath();
@@ -153,92 +202,107 @@ public class ModelManager implements Model {
     @Override
     public void setPerson(Person target, Person editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
-        versionedAddressBook.setPerson(target, editedPerson);
+        if (stagedEdits == null) {
+            versionedAddressBook.setPerson(target, editedPerson);
+            return;
+        }
+        // A person edited again within the transaction is staged as an edit of the person in the address book.
+        Person original = stagedOriginals.getOrDefault(target, target);
+        stagedOriginals.remove(target);
+        stagedOriginals.put(editedPerson, original);
+        stagedEdits.put(original, editedPerson);
     }
 
     @Override
-    public void mergeAddressBook(ReadOnlyAddressBook addressBookToMerge) {
-        AddressBook mergedAddressBook = new VersionedAddressBook(this.versionedAddressBook
-                .getMostRecentReadOnlyAddressBook());
-        ObservableList<Person> personsToMerge = addressBookToMerge.getPersonList();
-        personsToMerge.stream().forEach(mergedAddressBook::mergePerson);
-        setAddressBook(mergedAddressBook);
-        versionedAddressBook.commitCurrentStateAndSave();
+    public void beginTransaction() {
+        if (stagedEdits != null) {
+            throw new IllegalStateException("A transaction is already in progress.");
+        }
+        stagedEdits = new LinkedHashMap<>();
+        stagedOriginals = new HashMap<>();
     }
 
     @Override
-    public void updateExportList(List<Person> filteredPersonList) {
-        // Since VersionedAddressBook stores all states, we can just store the new exportable list as a new state in
-        // the VersionedAddressBook.
-        setAwaitingExportConfirmation(true);
-        this.versionedAddressBook.setPersons(filteredPersonList);
-        ReadOnlyAddressBook copy = new AddressBook(versionedAddressBook);
-        ReadOnlyAddressBook mostRecentState = versionedAddressBook.getMostRecentReadOnlyAddressBook();
-        if (!checkEqualityOfAddressBooks(copy, mostRecentState)) {
-            this.versionedAddressBook.commitCurrentStateAndSave();
-            setExportListModified(true);
+    public void commitTransaction() {
+        if (stagedEdits == null) {
+            throw new IllegalStateException("No transaction is in progress.");
+        }
+        try {
+            if (!stagedEdits.isEmpty()) {
+                versionedAddressBook.replacePersons(stagedEdits);
+            }
+            versionedAddressBook.commitCurrentStateAndSave();
+        } finally {
+            endTransaction();
         }
     }
 
-    private void setExportListModified(boolean b) {
-        isExportListModified = b;
+    @Override
+    public void rollbackTransaction() {
+        if (stagedEdits == null) {
+            throw new IllegalStateException("No transaction is in progress.");
+        }
+        endTransaction();
     }
 
-    private void setAwaitingExportConfirmation(boolean b) {
-        isAwaitingExportConfirmation = b;
+    private void endTransaction() {
+        stagedEdits = null;
+        stagedOriginals = null;
     }
 
-    private boolean checkEqualityOfAddressBooks(ReadOnlyAddressBook addressBook1, ReadOnlyAddressBook addressBook2) {
-        return addressBook1.equals(addressBook2);
+    @Override
+    public TagIndex getTagIndex() {
+        return versionedAddressBook.getTagIndex();
     }
 
     @Override
-    public boolean isAwaitingExportConfirmation() {
-        return isAwaitingExportConfirmation;
+    public PhoneIndex getPhoneIndex() {
+        return versionedAddressBook.getPhoneIndex();
     }
 
     @Override
-    public AddressBook getExportAddressBook() {
-        AddressBook toExport = new AddressBook(versionedAddressBook);
-        if (isExportListModified) {
-            undoVersionedAddressBookAndCommit();
-        }
-        resetExportConfirmation();
-        resetExportListModified();
-        return toExport;
+    public NameTokenIndex getNameTokenIndex() {
+        return versionedAddressBook.getNameTokenIndex();
     }
 
     @Override
-    public void cancelPendingExport() {
-        if (isAwaitingExportConfirmation && isExportListModified) {
-            undoVersionedAddressBookAndCommit();
-        }
-        resetExportConfirmation();
-        resetExportListModified();
+    public void mergeAddressBook(ReadOnlyAddressBook addressBookToMerge) {
+        requireNonNull(addressBookToMerge);
+        versionedAddressBook.mergePersons(addressBookToMerge.getPersonList());
     }
 
-    private void resetExportListModified() {
-        setExportListModified(false);
+    @Override
+    public void updateExportList(List<Person> filteredPersonList) {
+        // The staged persons are only shown through the filtered list, so neither the address book nor its history
+        // is touched until the export is confirmed or cancelled.
+        requireNonNull(filteredPersonList);
+        cancelPendingExport();
+        exportView = new ExportView(filteredPersonList);
+        predicateBeforeExport = filteredPersons.getPredicate();
+        Set<Uuid> uuidsToExport = filteredPersonList.stream().map(Person::getUuid).collect(Collectors.toSet());
+        filteredPersons.setPredicate(person -> uuidsToExport.contains(person.getUuid()));
     }
 
-    private void resetExportConfirmation() {
-        setAwaitingExportConfirmation(false);
+    @Override
+    public boolean isAwaitingExportConfirmation() {
+        return exportView != null;
     }
 
-    private void undoVersionedAddressBookAndCommit() {
-        try {
-            this.versionedAddressBook.undo();
-            this.versionedAddressBook.commitWithoutSavingCurrentState();
-        } catch (EarliestVersionException e) {
-            // Undo will always work as VersionedAddressBook must store at least 2 states: the original AddressBook
-            // and the filtered addressBook.
-            logExportIssuesWithUndo(e);
-        }
+    @Override
+    public ReadOnlyAddressBook getExportAddressBook() {
+        ReadOnlyAddressBook toExport = exportView;
+        cancelPendingExport();
+        return toExport;
     }
 
-    private void logExportIssuesWithUndo(EarliestVersionException e) {
-        logger.log(Level.SEVERE, e, () -> "VersionedAddressBook should be undoable at point of export and have at "
-                + "least 2 states stored.");
+    @Override
+    public void cancelPendingExport() {
+        if (exportView == null) {
+            return;
+        }
+        exportView = null;
+        filteredPersons.setPredicate(predicateBeforeExport);
+        predicateBeforeExport = null;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -252,6 +316,11 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public CompletionStatusCounter getCompletionStatusCounter() {
+        return completionStatusCounter;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
@@ -260,15 +329,16 @@ public class ModelManager implements Model {
 
     public List<Person> getPersonsFromRange(Range range) throws IllegalValueException {
         requireNonNull(range);
-        Set<Index> rangeValues = range.getRangeValues();
-        if (rangeValues.stream().anyMatch(i -> i.getZeroBased() >= filteredPersons.size())) {
+        if (!range.isWithin(filteredPersons.size())) {
             throw new IllegalValueException(
                     String.format(Range.MESSAGE_ILLEGAL_RANGE, filteredPersons.size())
             );
         }
-        return rangeValues.stream()
-                .map(i -> filteredPersons.get(i.getZeroBased()))
-                .collect(Collectors.toList());
+        List<Person> persons = new ArrayList<>(range.size());
+        for (PrimitiveIterator.OfInt indices = range.zeroBasedIterator(); indices.hasNext();) {
+            persons.add(filteredPersons.get(indices.nextInt()));
+        }
+        return persons;
     }
 
 
@@ -299,6 +369,11 @@ public class ModelManager implements Model {
         versionedAddressBook.commitCurrentStateAndSave();
     }
 
+    @Override
+    public HistoryFootprint getAddressBookHistoryFootprint() {
+        return versionedAddressBook.getHistoryFootprint();
+    }
+
     //=========== InputHistory Accessors and Modifiers ======================================================
 
     @Override
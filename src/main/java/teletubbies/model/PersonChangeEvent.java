@@ -0,0 +1,88 @@
+package teletubbies.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import teletubbies.model.person.Person;
+
+/**
+ * A change to the persons of an address book, as reported to a {@code PersonChangeListener}.
+ * The persons {@code removed} from position {@code from} onwards were replaced by the persons {@code added}.
+ *
+ * Every change to an address book is given a version number greater than that of the change before it, so a
+ * listener can tell whether it has seen a change, such as when caching results computed from the persons.
+ */
+public final class PersonChangeEvent {
+
+    /**
+     * The kinds of change that can be made to the persons of an address book.
+     */
+    public enum Type { ADD, REMOVE, REPLACE }
+
+    private final long version;
+    private final int from;
+    private final List<Person> removed;
+    private final List<Person> added;
+
+    /**
+     * Creates the change numbered {@code version} that replaced {@code removed} at position {@code from} with
+     * {@code added}.
+     */
+    public PersonChangeEvent(long version, int from, List<? extends Person> removed, List<? extends Person> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.version = version;
+        this.from = from;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns whether persons were only added, only removed, or replaced by other persons.
+     */
+    public Type getType() {
+        if (removed.isEmpty()) {
+            return Type.ADD;
+        } else if (added.isEmpty()) {
+            return Type.REMOVE;
+        }
+        return Type.REPLACE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonChangeEvent // instanceof handles nulls
+                        && version == ((PersonChangeEvent) other).version
+                        && from == ((PersonChangeEvent) other).from
+                        && removed.equals(((PersonChangeEvent) other).removed)
+                        && added.equals(((PersonChangeEvent) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return ((Long.hashCode(version) * 31 + from) * 31 + removed.hashCode()) * 31 + added.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ", " + getType() + " at " + from + ": " + removed + " -> " + added;
+    }
+}
@@ -0,0 +1,13 @@
+package teletubbies.model;
+
+/**
+ * Listens for changes to the persons of an address book.
+ */
+@FunctionalInterface
+public interface PersonChangeListener {
+
+    /**
+     * Called after the persons of the address book are changed as described by {@code event}.
+     */
+    void onPersonsChanged(PersonChangeEvent event);
+}
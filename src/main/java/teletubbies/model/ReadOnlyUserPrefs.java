@@ -2,7 +2,9 @@ package teletubbies.model;
 
 import java.nio.file.Path;
 
+import teletubbies.commons.core.AddressBookFormat;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryBudget;
 import teletubbies.commons.core.UserProfile;
 
 /**
@@ -18,4 +20,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    HistoryBudget getHistoryBudget();
+
 }
@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import teletubbies.commons.core.AddressBookFormat;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryBudget;
 import teletubbies.commons.core.UserProfile;
 import teletubbies.commons.core.UserProfile.Role;
 import teletubbies.commons.exceptions.UserRoleSetException;
@@ -20,6 +22,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private UserProfile userProfile = new UserProfile();
     private boolean isProfileSet = false;
     private Path addressBookFilePath = Paths.get("data" , "teletubbies.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private HistoryBudget historyBudget = new HistoryBudget();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -45,6 +49,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.userProfile = newUserPrefs.getUserProfile();
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setHistoryBudget(newUserPrefs.getHistoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -84,6 +90,26 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    @Override
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    @Override
+    public HistoryBudget getHistoryBudget() {
+        return historyBudget;
+    }
+
+    public void setHistoryBudget(HistoryBudget historyBudget) {
+        requireNonNull(historyBudget);
+        this.historyBudget = historyBudget;
+    }
+
     public Role getUserRole() {
         return userProfile.getRole();
     }
@@ -100,12 +126,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat.equals(o.addressBookFormat)
+                && historyBudget.equals(o.historyBudget);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, historyBudget);
     }
 
     @Override
@@ -113,6 +141,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nUndo history budget : " + historyBudget);
         sb.append("\nUser profile is set:" + isProfileSet);
         return sb.toString();
     }
@@ -0,0 +1,40 @@
+package teletubbies.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.model.person.PersonListChange;
+
+/**
+ * Keeps the address book versions evicted from the in-memory undo history outside of the heap, so that they can be
+ * brought back when the user undoes that far.
+ *
+ * Each version is represented by the changes to the person list that led to it from the version before. Versions
+ * are spilled oldest first and taken back newest first, so the store behaves as a stack.
+ */
+public interface VersionSpillStore {
+
+    /**
+     * Stores the changes leading to a version that is newer than every version already stored.
+     * @throws IOException if there was any problem writing the version.
+     */
+    void push(List<PersonListChange> changes) throws IOException;
+
+    /**
+     * Removes and returns the changes leading to the newest version stored.
+     * @throws IOException if there was any problem reading the version.
+     * @throws DataConversionException if the version read back is not in the expected format.
+     */
+    List<PersonListChange> pop() throws IOException, DataConversionException;
+
+    /**
+     * Returns true if no versions are stored.
+     */
+    boolean isEmpty();
+
+    /**
+     * Discards every version stored.
+     */
+    void clear();
+}
@@ -1,26 +1,62 @@
 package teletubbies.model;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.commons.core.HistoryFootprint;
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.exceptions.DataConversionException;
 import teletubbies.commons.exceptions.EarliestAddressBookVersionException;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.LatestAddressBookVersionException;
 import teletubbies.commons.exceptions.LatestVersionException;
+import teletubbies.commons.util.StringUtil;
+import teletubbies.model.person.PersistentPersonList;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
 
 /**
  * A data structure to encapsulate the logic needed to store previous AddressBook states using HistoryManager.
  * Solution to undoing and redoing states adapted from
  * https://github.com/se-edu/addressbook-level4/blob/master/src/main/java/seedu/address/model/VersionedAddressBook.java
+ *
+ * The persons of the current state are mirrored in a {@code PersistentPersonList}, which is updated from the change
+ * events of the person list. Saving a state then only stores that list, which shares all but the changed persons'
+ * paths with the previously saved state, instead of copying the whole address book.
+ *
+ * The changes made since the last saved state are recorded as well and saved along with the next state, so undoing
+ * or redoing a state only replays the changes between the two states on the person list, rather than replacing the
+ * whole list.
+ *
+ * If a {@code VersionSpillStore} is set, the states evicted to keep the history within its budget are spilled to it
+ * instead of being dropped. Only the changes leading to each evicted state are spilled, as the state itself can be
+ * rebuilt by reverting the changes of the state after it, so undoing past the states in memory brings them back one
+ * at a time.
  */
 public class VersionedAddressBook extends AddressBook {
-    private HistoryManager<ReadOnlyAddressBook> addressBookHistoryManager;
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
+    // Changes touching more persons than this are mirrored by rebuilding the persistent list from the person list.
+    private static final int REBUILD_THRESHOLD = 64;
+
+    private final HistoryManager<AddressBookSnapshot> addressBookHistoryManager;
+    private PersistentPersonList currentPersons;
+    private List<PersonListChange> pendingChanges = new ArrayList<>();
+    private boolean isRestoringState;
+    private VersionSpillStore spillStore;
 
     /**
      * Copies over initial state and initialises HistoryManager with initial state
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
         super(initialState);
-        addressBookHistoryManager = new HistoryManager<>(List.of(new AddressBook(initialState)));
+        currentPersons = PersistentPersonList.of(getPersonList());
+        addressBookHistoryManager = new HistoryManager<>(List.of(new AddressBookSnapshot(currentPersons)));
+        getPersonList().addListener(this::onPersonListChanged);
     }
 
     /**
@@ -59,8 +95,9 @@ public class VersionedAddressBook extends AddressBook {
      * Copies over state and persists state to {@code HistoryManager} using {@code HistoryManager#commitAndPush}.
      */
     public void commitCurrentStateAndSave() {
-        AddressBook copyOfAddressBook = new AddressBook(this);
-        setAddressBookHistoryManager(addressBookHistoryManager.commitAndPush(copyOfAddressBook));
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(currentPersons, pendingChanges);
+        pendingChanges = new ArrayList<>();
+        addressBookHistoryManager.commitAndPush(snapshot);
         indicateModified();
     }
 
@@ -68,28 +105,40 @@ public class VersionedAddressBook extends AddressBook {
      * Clears the {@code HistoryManager} after pointer.
      */
     public void commitWithoutSavingCurrentState() {
-        setAddressBookHistoryManager(HistoryManager.clearedCopy(addressBookHistoryManager));
+        addressBookHistoryManager.clearRedoableStates();
         indicateModified();
     }
 
-    private void setAddressBookHistoryManager(HistoryManager<ReadOnlyAddressBook> newHistoryManager) {
-        this.addressBookHistoryManager = newHistoryManager;
-    }
-
     /**
      * Undoes state and resets AddressBook to {@code HistoryManager#peek}
+     * Only the changes from the previous state to the current one are reverted, along with any changes that were not
+     * committed.
      * @throws EarliestVersionException if it is the earliest version
      */
     public void undo() throws EarliestVersionException {
         if (!canUndo()) {
             throw new EarliestAddressBookVersionException();
         }
+        if (!addressBookHistoryManager.isUndoable()) {
+            restoreSpilledState();
+        }
+        AddressBookSnapshot undoneState = addressBookHistoryManager.peek();
         addressBookHistoryManager.undo();
-        resetData(addressBookHistoryManager.peek());
+        isRestoringState = true;
+        try {
+            revertChanges(pendingChanges);
+            revertChanges(undoneState.getChanges());
+        } finally {
+            isRestoringState = false;
+        }
+        pendingChanges = new ArrayList<>();
+        currentPersons = addressBookHistoryManager.peek().getPersons();
     }
 
     /**
      * Redoes state and resets AddressBook to {@code HistoryManager#peek}
+     * Only the changes from the current state to the next one are made again, after reverting any changes that were
+     * not committed.
      * @throws LatestVersionException if it is the latest version
      */
     public void redo() throws LatestVersionException {
@@ -97,14 +146,110 @@ public class VersionedAddressBook extends AddressBook {
             throw new LatestAddressBookVersionException();
         }
         addressBookHistoryManager.redo();
-        resetData(addressBookHistoryManager.peek());
+        AddressBookSnapshot redoneState = addressBookHistoryManager.peek();
+        isRestoringState = true;
+        try {
+            revertChanges(pendingChanges);
+            applyChanges(redoneState.getChanges());
+        } finally {
+            isRestoringState = false;
+        }
+        pendingChanges = new ArrayList<>();
+        currentPersons = redoneState.getPersons();
+    }
+
+    /**
+     * Spills the states evicted from the history from now on to {@code spillStore}, instead of dropping them.
+     */
+    public void setSpillStore(VersionSpillStore spillStore) {
+        this.spillStore = spillStore;
+        addressBookHistoryManager.setEvictionListener(this::spillState);
+    }
+
+    private void spillState(AddressBookSnapshot evictedState) {
+        try {
+            spillStore.push(evictedState.getChanges());
+        } catch (IOException e) {
+            // The spilled states must lead up to the oldest state in memory, so those before a failure are unusable.
+            logger.warning("Failed to spill undo history, earlier states are dropped: " + StringUtil.getDetails(e));
+            spillStore.clear();
+        }
+    }
+
+    /**
+     * Brings back the newest spilled state as the oldest state in the history, which must be the current state.
+     * It is rebuilt by reverting the changes of the current oldest state, which lead to it from the spilled state.
+     */
+    private void restoreSpilledState() throws EarliestAddressBookVersionException {
+        AddressBookSnapshot oldestState = addressBookHistoryManager.peek();
+        List<PersonListChange> spilledChanges;
+        try {
+            spilledChanges = spillStore.pop();
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Failed to read spilled undo history, earlier states are dropped: "
+                    + StringUtil.getDetails(e));
+            spillStore.clear();
+            throw new EarliestAddressBookVersionException();
+        }
+        PersistentPersonList persons = oldestState.getPersons();
+        List<PersonListChange> oldestChanges = oldestState.getChanges();
+        for (int i = oldestChanges.size() - 1; i >= 0; i--) {
+            persons = oldestChanges.get(i).revertOn(persons);
+        }
+        addressBookHistoryManager.addOldest(new AddressBookSnapshot(persons, spilledChanges));
+    }
+
+    /**
+     * Records the changes to the person list as changes pending commit, and applies them to {@code currentPersons}.
+     */
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoringState) {
+            return;
+        }
+        List<PersonListChange> changes = new ArrayList<>();
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // Reordering is rare, so it is recorded as replacing the whole list.
+                changes = List.of(new PersonListChange(0, currentPersons.asList(), getPersonList()));
+                changedCount = Integer.MAX_VALUE;
+                break;
+            }
+            PersonListChange personListChange =
+                    new PersonListChange(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+            changes.add(personListChange);
+            changedCount += personListChange.getSize();
+        }
+        pendingChanges.addAll(changes);
+
+        if (changedCount > REBUILD_THRESHOLD) {
+            currentPersons = PersistentPersonList.of(getPersonList());
+            return;
+        }
+        for (PersonListChange personListChange : changes) {
+            currentPersons = personListChange.applyTo(currentPersons);
+        }
+    }
+
+    /**
+     * Keeps the saved states within {@code budget}, evicting the oldest states once it is exceeded.
+     */
+    public void setHistoryBudget(HistoryBudget budget) {
+        addressBookHistoryManager.setBudget(budget, AddressBookSnapshot::getEstimatedSize);
+    }
+
+    /**
+     * Returns the number of saved states and the estimated memory they take up.
+     */
+    public HistoryFootprint getHistoryFootprint() {
+        return addressBookHistoryManager.getFootprint();
     }
 
     /**
      * Verifies that the state is undoable.
      */
     public boolean canUndo() {
-        return addressBookHistoryManager.isUndoable();
+        return addressBookHistoryManager.isUndoable() || (spillStore != null && !spillStore.isEmpty());
     }
 
     /**
@@ -114,7 +259,15 @@ public class VersionedAddressBook extends AddressBook {
         return addressBookHistoryManager.isRedoable();
     }
 
-    ReadOnlyAddressBook getMostRecentReadOnlyAddressBook() {
+    /**
+     * Returns an immutable snapshot of the address book as it is now, including changes that were not committed.
+     * Taking it does not copy the persons, and it can be read from any thread.
+     */
+    public AddressBookSnapshot getCurrentState() {
+        return new AddressBookSnapshot(currentPersons, List.of(), getVersion());
+    }
+
+    AddressBookSnapshot getMostRecentReadOnlyAddressBook() {
         return addressBookHistoryManager.peek();
     }
 
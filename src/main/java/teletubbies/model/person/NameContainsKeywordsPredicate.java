@@ -1,22 +1,74 @@
 package teletubbies.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import teletubbies.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * By default, a keyword matches if it is contained in a word of the name. When matching approximately, a keyword
+ * also matches a word that starts with it or that is within a few typing mistakes of it.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final boolean isApproximate;
+    private final NameTokenIndex nameTokenIndex;
+
+    // Persons matching the keywords when the index was first consulted. Once the index changes, persons are tested
+    // directly instead, as only the persons that changed since are tested again by a FilteredList.
+    private Set<Uuid> matchingUuids;
+    private int matchingUuidsModificationCount;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, false);
+    }
+
+    public NameContainsKeywordsPredicate(List<String> keywords, boolean isApproximate) {
+        this(keywords, isApproximate, null);
+    }
+
+    private NameContainsKeywordsPredicate(List<String> keywords, boolean isApproximate,
+                                          NameTokenIndex nameTokenIndex) {
         this.keywords = keywords;
+        this.isApproximate = isApproximate;
+        this.nameTokenIndex = nameTokenIndex;
+    }
+
+    /**
+     * Returns a predicate matching the same keywords that answers from the posting lists of {@code nameTokenIndex}
+     * instead of splitting the name of each person. The posting lists are merged once, when the predicate is first
+     * tested, and the predicate must only be tested against persons indexed by {@code nameTokenIndex}.
+     */
+    public NameContainsKeywordsPredicate withNameTokenIndex(NameTokenIndex nameTokenIndex) {
+        requireNonNull(nameTokenIndex);
+        return new NameContainsKeywordsPredicate(keywords, isApproximate, nameTokenIndex);
     }
 
     @Override
     public boolean test(Person person) {
+        if (nameTokenIndex != null) {
+            if (matchingUuids == null) {
+                matchingUuids = isApproximate
+                        ? nameTokenIndex.getUuidsMatchingAnyApproximately(keywords)
+                        : nameTokenIndex.getUuidsMatchingAny(keywords);
+                matchingUuidsModificationCount = nameTokenIndex.getModificationCount();
+            }
+            if (matchingUuidsModificationCount == nameTokenIndex.getModificationCount()) {
+                return matchingUuids.contains(person.getUuid());
+            }
+        }
+        if (isApproximate) {
+            String[] words = NameTokenIndex.tokenize(person.getName());
+            return keywords.stream()
+                    .map(String::toLowerCase)
+                    .anyMatch(keyword -> Arrays.stream(words)
+                            .anyMatch(word -> NameTokenIndex.isApproximateMatch(word, keyword)));
+        }
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
@@ -25,7 +77,8 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
+                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords) // state check
+                && isApproximate == ((NameContainsKeywordsPredicate) other).isApproximate);
     }
 
 }
@@ -0,0 +1,256 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import teletubbies.commons.util.StringUtil;
+
+/**
+ * Inverted index from the lower-cased words of persons' names to the uuids of the persons whose name contains them.
+ *
+ * A keyword matches a name if it is contained, ignoring case, in one of the words of the name, as in
+ * {@link teletubbies.commons.util.StringUtil#containsWordIgnoreCase(String, String)}. Since names share words, the
+ * words of the index are far fewer than the persons, so a query only looks at the words before merging the
+ * postings of those that match.
+ *
+ * The words themselves are indexed by their trigrams, which narrows down the words to check for a keyword.
+ * Words are padded with {@code "$$"} in front and {@code "$"} behind, so that the first trigrams of a word also
+ * identify its prefixes. This also backs approximate matching, where a keyword matches a word that starts with it
+ * or that is within a small edit distance of it (see {@link #isApproximateMatch(String, String)}).
+ */
+public class NameTokenIndex {
+
+    private static final String START_PADDING = "$$";
+    private static final String END_PADDING = "$";
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Uuid>> postings = new HashMap<>();
+    private final Map<String, Set<String>> trigramPostings = new HashMap<>();
+    private int modificationCount;
+
+    /**
+     * Returns the lower-cased words of {@code name}.
+     */
+    public static String[] tokenize(Name name) {
+        return name.fullName.toLowerCase().split("\\s+");
+    }
+
+    /**
+     * Returns the number of typing mistakes tolerated in a keyword when matching approximately.
+     * Short keywords tolerate fewer mistakes, as they would otherwise match almost every word.
+     */
+    public static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns true if the lower-cased {@code word} starts with, or is within {@link #getMaxEdits(String)}
+     * edits of, the lower-cased {@code keyword}.
+     */
+    public static boolean isApproximateMatch(String word, String keyword) {
+        return word.startsWith(keyword) || StringUtil.isWithinEditDistance(word, keyword, getMaxEdits(keyword));
+    }
+
+    /**
+     * Returns the uuids of the persons whose name contains any of {@code keywords} within one of its words,
+     * ignoring case.
+     */
+    public Set<Uuid> getUuidsMatchingAny(Collection<String> keywords) {
+        Set<Uuid> result = new HashSet<>();
+        for (String keyword : toLowerCase(keywords)) {
+            for (String token : getTokensContaining(keyword)) {
+                result.addAll(postings.get(token));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the uuids of the persons whose name has a word matching any of {@code keywords} approximately,
+     * ignoring case.
+     *
+     * @see #isApproximateMatch(String, String)
+     */
+    public Set<Uuid> getUuidsMatchingAnyApproximately(Collection<String> keywords) {
+        Set<Uuid> result = new HashSet<>();
+        for (String keyword : toLowerCase(keywords)) {
+            for (String token : getTokensStartingWith(keyword)) {
+                result.addAll(postings.get(token));
+            }
+            for (String token : getTokensWithinEditDistance(keyword)) {
+                result.addAll(postings.get(token));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change, so that query results can be
+     * cached until then.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds the words of the name of {@code person} to the index.
+     */
+    void add(Person person) {
+        Uuid uuid = person.getUuid();
+        for (String token : tokenize(person.getName())) {
+            Set<Uuid> posting = postings.get(token);
+            if (posting == null) {
+                posting = new HashSet<>();
+                postings.put(token, posting);
+                addTrigrams(token);
+            }
+            posting.add(uuid);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words of the name of {@code person} from the index.
+     */
+    void remove(Person person) {
+        Uuid uuid = person.getUuid();
+        for (String token : tokenize(person.getName())) {
+            Set<Uuid> posting = postings.get(token);
+            if (posting != null && posting.remove(uuid) && posting.isEmpty()) {
+                postings.remove(token);
+                removeTrigrams(token);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of the contents of {@code other}.
+     */
+    void setAll(NameTokenIndex other) {
+        postings.clear();
+        trigramPostings.clear();
+        other.postings.forEach((token, posting) -> postings.put(token, new HashSet<>(posting)));
+        other.trigramPostings.forEach((trigram, tokens) -> trigramPostings.put(trigram, new HashSet<>(tokens)));
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}, which must not be used afterwards.
+     */
+    void replaceWith(NameTokenIndex other) {
+        postings.clear();
+        trigramPostings.clear();
+        postings.putAll(other.postings);
+        trigramPostings.putAll(other.trigramPostings);
+        modificationCount++;
+    }
+
+    private Collection<String> getTokensContaining(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return postings.keySet().stream()
+                    .filter(token -> token.contains(keyword))
+                    .collect(Collectors.toList());
+        }
+        return getTokensWithAllTrigrams(trigramsOf(keyword)).stream()
+                .filter(token -> token.contains(keyword))
+                .collect(Collectors.toList());
+    }
+
+    private Collection<String> getTokensStartingWith(String keyword) {
+        return getTokensWithAllTrigrams(trigramsOf(START_PADDING + keyword)).stream()
+                .filter(token -> token.startsWith(keyword))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the words within {@link #getMaxEdits(String)} edits of {@code keyword}.
+     * Each edit changes at most {@value #GRAM_LENGTH} of the trigrams of a word, so only the words sharing enough
+     * trigrams with {@code keyword} need to be checked.
+     */
+    private Collection<String> getTokensWithinEditDistance(String keyword) {
+        int maxEdits = getMaxEdits(keyword);
+        Set<String> keywordTrigrams = new HashSet<>(trigramsOf(START_PADDING + keyword + END_PADDING));
+        int minSharedTrigrams = keywordTrigrams.size() - GRAM_LENGTH * maxEdits;
+
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            candidates = postings.keySet();
+        } else {
+            Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (String token : trigramPostings.getOrDefault(trigram, Set.of())) {
+                    sharedTrigramCounts.merge(token, 1, Integer::sum);
+                }
+            }
+            candidates = sharedTrigramCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= minSharedTrigrams)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+        return candidates.stream()
+                .filter(token -> StringUtil.isWithinEditDistance(token, keyword, maxEdits))
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> getTokensWithAllTrigrams(List<String> trigrams) {
+        List<Set<String>> tokenSets = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            Set<String> tokens = trigramPostings.get(trigram);
+            if (tokens == null) {
+                return Set.of();
+            }
+            tokenSets.add(tokens);
+        }
+        tokenSets.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> result = new HashSet<>(tokenSets.get(0));
+        for (int i = 1; i < tokenSets.size() && !result.isEmpty(); i++) {
+            result.retainAll(tokenSets.get(i));
+        }
+        return result;
+    }
+
+    private void addTrigrams(String token) {
+        for (String trigram : trigramsOf(START_PADDING + token + END_PADDING)) {
+            trigramPostings.computeIfAbsent(trigram, t -> new HashSet<>()).add(token);
+        }
+    }
+
+    private void removeTrigrams(String token) {
+        for (String trigram : trigramsOf(START_PADDING + token + END_PADDING)) {
+            Set<String> tokens = trigramPostings.get(trigram);
+            if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                trigramPostings.remove(trigram);
+            }
+        }
+    }
+
+    private static List<String> trigramsOf(String text) {
+        List<String> trigrams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static List<String> toLowerCase(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream()
+                .map(String::toLowerCase)
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
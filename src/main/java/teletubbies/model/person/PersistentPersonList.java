@@ -0,0 +1,276 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of persons, in which every modification returns a new list and leaves this one unchanged.
+ *
+ * The persons are held in a balanced binary tree ordered by position, in which each node knows the size of its
+ * subtree. A modification only copies the nodes on the path to the position it changes, and the new list shares
+ * every other node with this one. Keeping a version of the list after each change therefore costs time and memory
+ * logarithmic in the size of the list, rather than a copy of the whole list.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(null);
+
+    private final Node root;
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code persons}, in the same order.
+     */
+    public static PersistentPersonList of(List<? extends Person> persons) {
+        requireNonNull(persons);
+        if (persons.isEmpty()) {
+            return EMPTY;
+        }
+        return new PersistentPersonList(build(persons.toArray(new Person[0]), 0, persons.size()));
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the person at position {@code index}.
+     */
+    public Person get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the person at position {@code index} replaced by {@code person}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size());
+        return new PersistentPersonList(setAt(root, index, person));
+    }
+
+    /**
+     * Returns a list with {@code person} inserted at position {@code index}, shifting later persons back by one.
+     */
+    public PersistentPersonList insert(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size() + 1);
+        return new PersistentPersonList(insertAt(root, index, person));
+    }
+
+    /**
+     * Returns a list with the person at position {@code index} removed, shifting later persons forward by one.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentPersonList(removeAt(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable view of this list as a {@code List}.
+     */
+    public List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return PersistentPersonList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentPersonList.this.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return PersistentPersonList.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersistentPersonList // instanceof handles nulls
+                        && (root == ((PersistentPersonList) other).root
+                                || asList().equals(((PersistentPersonList) other).asList())));
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static Node build(Person[] persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(build(persons, from, mid), persons[mid], build(persons, mid + 1, to));
+    }
+
+    private static Node setAt(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(setAt(node.left, index, person), node.person, node.right);
+        } else if (index > leftSize) {
+            return new Node(node.left, node.person, setAt(node.right, index - leftSize - 1, person));
+        }
+        return new Node(node.left, person, node.right);
+    }
+
+    private static Node insertAt(Node node, int index, Person person) {
+        if (node == null) {
+            return new Node(null, person, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insertAt(node.left, index, person), node.person, node.right);
+        }
+        return balance(node.left, node.person, insertAt(node.right, index - leftSize - 1, person));
+    }
+
+    private static Node removeAt(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.person, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.person, removeAt(node.right, index - leftSize - 1));
+        }
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // The first person of the right subtree takes the place of the removed one.
+        Node first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.person, removeAt(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code person} between {@code left} and {@code right}, rotating it so that the heights
+     * of its subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static Node balance(Node left, Person person, Node right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.left, left.person, new Node(left.right, person, right));
+            }
+            return new Node(new Node(left.left, left.person, left.right.left), left.right.person,
+                    new Node(left.right.right, person, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(new Node(left, person, right.left), right.person, right.right);
+            }
+            return new Node(new Node(left, person, right.left.left), right.left.person,
+                    new Node(right.left.right, right.person, right.right));
+        }
+        return new Node(left, person, right);
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final Node left;
+        private final Person person;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Node left, Person person, Node right) {
+            this.left = left;
+            this.person = person;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private static final class InOrderIterator implements Iterator<Person> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.person;
+        }
+
+        private void pushLeftmostPath(Node node) {
+            for (; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+}
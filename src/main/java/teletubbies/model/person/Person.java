@@ -1,7 +1,9 @@
 package teletubbies.model.person;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,6 +29,8 @@ public class Person {
     private final CompletionStatusTag completionStatusTag;
     private final Set<Tag> tags = new HashSet<>();
     private final Remark remark;
+    // Tags and the completion status keyed by tag name, so that tags can be matched without copying them.
+    private final Map<String, Tag> tagsByName;
 
     /**
      * Every field must be present and not null.
@@ -43,6 +47,18 @@ public class Person {
         this.remark = remark;
         this.completionStatusTag = completionStatusTag;
         this.tags.addAll(tags);
+        this.tagsByName = buildTagsByName(tags, completionStatusTag);
+    }
+
+    private static Map<String, Tag> buildTagsByName(Set<Tag> tags, CompletionStatusTag completionStatusTag) {
+        Map<String, Tag> tagsByName = new HashMap<>();
+        for (Tag tag : tags) {
+            tagsByName.put(tag.tagName, tag);
+        }
+        if (completionStatusTag != null) {
+            tagsByName.put(completionStatusTag.tagName, completionStatusTag);
+        }
+        return Map.copyOf(tagsByName);
     }
 
     public Uuid getUuid() {
@@ -99,14 +115,24 @@ public class Person {
     }
 
     /**
-     * Returns an immutable tag set, which
-     *
-     * @return
+     * Returns the tag named {@code tagName}, including the completion status, or null if the person has no such tag.
+     */
+    public Tag getTag(String tagName) {
+        return tagsByName.get(tagName);
+    }
+
+    /**
+     * Returns true if the person has a tag matching {@code queryTag}.
+     * A query tag with an empty value matches any tag of the same name, otherwise the values must be equal as well.
+     * Does not allocate.
      */
-    public Set<Tag> getAllTags() {
-        HashSet<Tag> allTags = new HashSet<>(Set.copyOf(tags));
-        allTags.add(completionStatusTag);
-        return Collections.unmodifiableSet(allTags);
+    public boolean hasTag(Tag queryTag) {
+        Tag tag = tagsByName.get(queryTag.tagName);
+        if (tag == null) {
+            return false;
+        }
+        String queryValue = queryTag.getTagValue();
+        return queryValue == null || queryValue.isEmpty() || queryValue.equals(tag.getTagValue());
     }
 
     /**
@@ -1,5 +1,7 @@
 package teletubbies.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -8,22 +10,40 @@ import teletubbies.model.tag.Tag;
 public class PersonHasTagsPredicate implements Predicate<Person> {
 
     private final Set<Tag> tagSet;
+    // Iterating over an array, unlike a set, does not allocate an iterator on every test.
+    private final Tag[] tags;
+    private final TagIndex tagIndex;
 
     public PersonHasTagsPredicate(Set<Tag> tagSet) {
+        this(tagSet, null);
+    }
+
+    private PersonHasTagsPredicate(Set<Tag> tagSet, TagIndex tagIndex) {
         this.tagSet = tagSet;
+        this.tags = tagSet.toArray(new Tag[0]);
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Returns a predicate matching the same tags that answers using {@code tagIndex} instead of
+     * scanning the tags of each person. It must only be tested against persons indexed by {@code tagIndex}.
+     */
+    public PersonHasTagsPredicate withTagIndex(TagIndex tagIndex) {
+        requireNonNull(tagIndex);
+        return new PersonHasTagsPredicate(tagSet, tagIndex);
     }
 
     @Override
     public boolean test (Person person) {
-        return tagSet.stream().allMatch(tp -> // For all test tags
-            person.getAllTags().stream().anyMatch(t -> { // Person has tags
-                if (tp.getTagValue().isEmpty()) {
-                    return t.equals(tp);
-                } else {
-                    return t.equalsNameAndValue(tp);
-                }
+        if (tagIndex != null) {
+            return tagIndex.holdsAll(person.getUuid(), tagSet);
+        }
+        for (Tag tag : tags) {
+            if (!person.hasTag(tag)) {
+                return false;
             }
-        ));
+        }
+        return true;
     }
 
     /**
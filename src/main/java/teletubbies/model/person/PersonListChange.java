@@ -0,0 +1,109 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A change to a list of persons, in which the persons {@code removed} from position {@code from} onwards were
+ * replaced by the persons {@code added}.
+ * A change can be applied again, or reverted, at a cost that depends only on the number of persons it touches.
+ */
+public final class PersonListChange {
+
+    private final int from;
+    private final List<Person> removed;
+    private final List<Person> added;
+
+    /**
+     * Creates a change replacing {@code removed} at position {@code from} with {@code added}.
+     */
+    public PersonListChange(int from, List<? extends Person> removed, List<? extends Person> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.from = from;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the number of persons removed and added by this change.
+     */
+    public int getSize() {
+        return removed.size() + added.size();
+    }
+
+    /**
+     * Makes this change to {@code persons}, which must be in the state this change was made from.
+     */
+    public void applyTo(UniquePersonList persons) {
+        persons.replaceRange(from, removed.size(), added);
+    }
+
+    /**
+     * Returns {@code persons} with this change made to it.
+     */
+    public PersistentPersonList applyTo(PersistentPersonList persons) {
+        return replace(persons, from, removed, added);
+    }
+
+    /**
+     * Undoes this change to {@code persons}, which must be in the state this change resulted in.
+     */
+    public void revertOn(UniquePersonList persons) {
+        persons.replaceRange(from, added.size(), removed);
+    }
+
+    /**
+     * Returns {@code persons} with this change undone.
+     */
+    public PersistentPersonList revertOn(PersistentPersonList persons) {
+        return replace(persons, from, added, removed);
+    }
+
+    private static PersistentPersonList replace(PersistentPersonList persons, int from, List<Person> toRemove,
+            List<Person> toAdd) {
+        int replacedCount = Math.min(toRemove.size(), toAdd.size());
+        for (int i = 0; i < replacedCount; i++) {
+            persons = persons.set(from + i, toAdd.get(i));
+        }
+        for (int i = replacedCount; i < toRemove.size(); i++) {
+            persons = persons.remove(from + replacedCount);
+        }
+        for (int i = replacedCount; i < toAdd.size(); i++) {
+            persons = persons.insert(from + i, toAdd.get(i));
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonListChange // instanceof handles nulls
+                        && from == ((PersonListChange) other).from
+                        && removed.equals(((PersonListChange) other).removed)
+                        && added.equals(((PersonListChange) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return (31 * from + removed.hashCode()) * 31 + added.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "at " + from + ": " + removed + " -> " + added;
+    }
+}
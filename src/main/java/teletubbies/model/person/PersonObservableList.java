@@ -0,0 +1,129 @@
+package teletubbies.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * The observable list of persons backing a {@code UniquePersonList}.
+ *
+ * Besides the usual list operations, it can replace the persons at several positions at once, which its listeners
+ * observe as a single change. Operations on a range of persons modify the backing list in one step rather than one
+ * person at a time.
+ */
+class PersonObservableList extends ModifiableObservableListBase<Person> implements RandomAccess {
+
+    private final ArrayList<Person> persons = new ArrayList<>();
+
+    @Override
+    public Person get(int index) {
+        return persons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return persons.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Person person) {
+        persons.add(index, person);
+    }
+
+    @Override
+    protected Person doSet(int index, Person person) {
+        return persons.set(index, person);
+    }
+
+    @Override
+    protected Person doRemove(int index) {
+        return persons.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Person> replacement) {
+        beginChange();
+        try {
+            if (!persons.isEmpty()) {
+                nextRemove(0, new ArrayList<>(persons));
+            }
+            persons.clear();
+            persons.addAll(replacement);
+            if (!persons.isEmpty()) {
+                nextAdd(0, persons.size());
+            }
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Person> added) {
+        if (index < 0 || index > persons.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + persons.size());
+        }
+        if (added.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            persons.addAll(index, added);
+            nextAdd(index, index + added.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Person> added) {
+        return addAll(persons.size(), added);
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        beginChange();
+        try {
+            List<Person> range = persons.subList(from, to);
+            nextRemove(from, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void clear() {
+        remove(0, persons.size());
+    }
+
+    /**
+     * Replaces the person at each of {@code slots} with the person at the same position in {@code replacements},
+     * as a single change.
+     */
+    void setAt(List<Integer> slots, List<Person> replacements) {
+        assert slots.size() == replacements.size();
+        if (slots.isEmpty()) {
+            return;
+        }
+        beginChange();
+        try {
+            for (int i = 0; i < slots.size(); i++) {
+                int slot = slots.get(i);
+                nextSet(slot, persons.set(slot, replacements.get(i)));
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -14,6 +14,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    public static final String PREFIX_MESSAGE_CONSTRAINTS =
+            "Phone number prefixes should only contain numbers, and it should not be blank";
+    public static final String PREFIX_VALIDATION_REGEX = "\\d+";
     public final String value;
 
     /**
@@ -22,11 +25,24 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean shouldValidate) {
         requireNonNull(phone);
-        AppUtil.checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            AppUtil.checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone}, skipping the check that it has at least 3 digits and nothing else.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -34,6 +50,13 @@ public class Phone {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given string is a valid start of a phone number, such as an area code.
+     */
+    public static boolean isValidPhonePrefix(String test) {
+        return test.matches(PREFIX_VALIDATION_REGEX);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,87 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Index of persons by phone number, which are unique among persons.
+ * The phone numbers are kept sorted, so that the persons whose phone number starts with some digits, such as an
+ * area code, are found with a single range lookup.
+ */
+public class PhoneIndex {
+
+    private final TreeMap<String, Person> personsByPhone = new TreeMap<>();
+    private int modificationCount;
+
+    /**
+     * Returns the person with {@code phone}, if any.
+     */
+    public Optional<Person> get(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(personsByPhone.get(phone.value));
+    }
+
+    /**
+     * Returns true if a person has {@code phone}.
+     */
+    public boolean contains(Phone phone) {
+        requireNonNull(phone);
+        return personsByPhone.containsKey(phone.value);
+    }
+
+    /**
+     * Returns the persons whose phone number starts with {@code prefix}, ordered by phone number.
+     */
+    public List<Person> getPersonsWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        if (prefix.isEmpty()) {
+            return new ArrayList<>(personsByPhone.values());
+        }
+        // Every phone number starting with the prefix sorts between the prefix and the prefix with its last
+        // character incremented.
+        String end = prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+        return new ArrayList<>(personsByPhone.subMap(prefix, end).values());
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the index change, so that query results can be
+     * cached until then.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds {@code person} to the index, unless another person already has the same phone number.
+     *
+     * @return the person already in the index with the same phone number, or null if {@code person} was added.
+     */
+    Person putIfAbsent(Person person) {
+        Person existing = personsByPhone.putIfAbsent(person.getPhone().value, person);
+        if (existing == null) {
+            modificationCount++;
+        }
+        return existing;
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        personsByPhone.remove(person.getPhone().value);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of the contents of {@code other}.
+     */
+    void setAll(PhoneIndex other) {
+        personsByPhone.clear();
+        personsByPhone.putAll(other.personsByPhone);
+        modificationCount++;
+    }
+}
@@ -0,0 +1,64 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} starts with the given digits, such as an area code.
+ */
+public class PhoneStartsWithPredicate implements Predicate<Person> {
+    private final String prefix;
+    private final PhoneIndex phoneIndex;
+
+    // Persons matching the prefix when the index was first consulted. Once the index changes, persons are tested
+    // directly instead, as only the persons that changed since are tested again by a FilteredList.
+    private Set<Uuid> matchingUuids;
+    private int matchingUuidsModificationCount;
+
+    public PhoneStartsWithPredicate(String prefix) {
+        this(prefix, null);
+    }
+
+    private PhoneStartsWithPredicate(String prefix, PhoneIndex phoneIndex) {
+        requireNonNull(prefix);
+        this.prefix = prefix;
+        this.phoneIndex = phoneIndex;
+    }
+
+    /**
+     * Returns a predicate matching the same prefix that answers from a range lookup in {@code phoneIndex}.
+     * The lookup is done once, when the predicate is first tested, and the predicate must only be tested against
+     * persons indexed by {@code phoneIndex}.
+     */
+    public PhoneStartsWithPredicate withPhoneIndex(PhoneIndex phoneIndex) {
+        requireNonNull(phoneIndex);
+        return new PhoneStartsWithPredicate(prefix, phoneIndex);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (phoneIndex != null) {
+            if (matchingUuids == null) {
+                matchingUuids = phoneIndex.getPersonsWithPrefix(prefix).stream()
+                        .map(Person::getUuid)
+                        .collect(Collectors.toSet());
+                matchingUuidsModificationCount = phoneIndex.getModificationCount();
+            }
+            if (matchingUuidsModificationCount == phoneIndex.getModificationCount()) {
+                return matchingUuids.contains(person.getUuid());
+            }
+        }
+        return person.getPhone().value.startsWith(prefix);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneStartsWithPredicate // instanceof handles nulls
+                && prefix.equals(((PhoneStartsWithPredicate) other).prefix)); // state check
+    }
+
+}
@@ -0,0 +1,167 @@
+package teletubbies.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teletubbies.model.tag.Tag;
+
+/**
+ * Inverted index from tag name to tag value to the uuids of the persons holding that tag.
+ * A person's completion status is indexed as well, under the {@code CompletionStatus} tag name.
+ *
+ * A query tag without a value matches every person holding a tag of that name, while a query tag with a value only
+ * matches persons holding a tag with the same name and value. This mirrors the matching done by
+ * {@link PersonHasTagsPredicate}.
+ */
+public class TagIndex {
+
+    private static final String NO_VALUE = "";
+
+    private final Map<String, Map<String, Set<Uuid>>> valuePostings = new HashMap<>();
+    private final Map<String, Set<Uuid>> namePostings = new HashMap<>();
+
+    /**
+     * Returns true if the person with {@code uuid} holds a tag matching {@code queryTag}.
+     */
+    public boolean holds(Uuid uuid, Tag queryTag) {
+        requireNonNull(uuid);
+        Set<Uuid> posting = getPosting(queryTag);
+        return posting != null && posting.contains(uuid);
+    }
+
+    /**
+     * Returns true if the person with {@code uuid} holds a tag matching every tag in {@code queryTags}.
+     */
+    public boolean holdsAll(Uuid uuid, Collection<Tag> queryTags) {
+        requireNonNull(queryTags);
+        for (Tag queryTag : queryTags) {
+            if (!holds(uuid, queryTag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the uuids of the persons holding a tag matching every tag in {@code queryTags}.
+     * The posting sets of the query tags are intersected starting from the smallest one.
+     * {@code queryTags} must not be empty, as the index does not know of persons without tags.
+     */
+    public Set<Uuid> getUuidsHoldingAll(Collection<Tag> queryTags) {
+        requireNonNull(queryTags);
+        assert !queryTags.isEmpty();
+
+        List<Set<Uuid>> postings = new ArrayList<>(queryTags.size());
+        for (Tag queryTag : queryTags) {
+            Set<Uuid> posting = getPosting(queryTag);
+            if (posting == null) {
+                return new HashSet<>();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Uuid> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Adds the tags and completion status of {@code person} to the index.
+     */
+    void add(Person person) {
+        Uuid uuid = person.getUuid();
+        for (Tag tag : person.getTags()) {
+            addPosting(tag, uuid);
+        }
+        addPosting(person.getCompletionStatus(), uuid);
+    }
+
+    /**
+     * Removes the tags and completion status of {@code person} from the index.
+     */
+    void remove(Person person) {
+        Uuid uuid = person.getUuid();
+        for (Tag tag : person.getTags()) {
+            removePosting(tag, uuid);
+        }
+        removePosting(person.getCompletionStatus(), uuid);
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of the contents of {@code other}.
+     */
+    void setAll(TagIndex other) {
+        clear();
+        other.namePostings.forEach((name, posting) -> namePostings.put(name, new HashSet<>(posting)));
+        other.valuePostings.forEach((name, postings) -> {
+            Map<String, Set<Uuid>> copy = new HashMap<>();
+            postings.forEach((value, posting) -> copy.put(value, new HashSet<>(posting)));
+            valuePostings.put(name, copy);
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code other}, which must not be used afterwards.
+     */
+    void replaceWith(TagIndex other) {
+        clear();
+        namePostings.putAll(other.namePostings);
+        valuePostings.putAll(other.valuePostings);
+    }
+
+    void clear() {
+        namePostings.clear();
+        valuePostings.clear();
+    }
+
+    private Set<Uuid> getPosting(Tag queryTag) {
+        requireNonNull(queryTag);
+        String value = queryTag.getTagValue();
+        if (value == null || value.isEmpty()) {
+            return namePostings.get(queryTag.tagName);
+        }
+        Map<String, Set<Uuid>> postings = valuePostings.get(queryTag.tagName);
+        return postings == null ? null : postings.get(value);
+    }
+
+    private void addPosting(Tag tag, Uuid uuid) {
+        namePostings.computeIfAbsent(tag.tagName, name -> new HashSet<>()).add(uuid);
+        valuePostings.computeIfAbsent(tag.tagName, name -> new HashMap<>())
+                .computeIfAbsent(valueOf(tag), value -> new HashSet<>())
+                .add(uuid);
+    }
+
+    private void removePosting(Tag tag, Uuid uuid) {
+        removeFrom(namePostings, tag.tagName, uuid);
+        Map<String, Set<Uuid>> postings = valuePostings.get(tag.tagName);
+        if (postings != null) {
+            removeFrom(postings, valueOf(tag), uuid);
+            if (postings.isEmpty()) {
+                valuePostings.remove(tag.tagName);
+            }
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Uuid>> postings, String key, Uuid uuid) {
+        Set<Uuid> posting = postings.get(key);
+        if (posting != null && posting.remove(uuid) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static String valueOf(Tag tag) {
+        String value = tag.getTagValue();
+        return value == null ? NO_VALUE : value;
+    }
+}
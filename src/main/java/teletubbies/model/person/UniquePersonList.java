@@ -2,9 +2,15 @@ package teletubbies.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,20 +27,52 @@ import teletubbies.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Indexes on uuid, phone number and name are kept in sync with the backing list so that membership checks and
+ * duplicate detection do not need to scan the list. The uuid index maps each person to its position in the list, so
+ * a person can also be located without comparing it against every element. A {@link TagIndex} over the tags of the
+ * persons and a {@link NameTokenIndex} over the words of their names are maintained alongside them.
+ *
+ * The indexes are updated before the backing list so that listeners of the list, such as a {@code FilteredList}
+ * whose predicate consults the {@code TagIndex}, observe indexes that are consistent with the change.
+ *
  * @see Person#isSameName(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final PersonObservableList internalList = new PersonObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private Map<Uuid, Integer> uuidSlots = new HashMap<>();
+    // Names are not required to be unique, so the number of persons holding each name is tracked instead.
+    private Map<Name, Integer> nameCounts = new HashMap<>();
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    // Removals and replayed changes shift every later person. Rather than rewriting their slots on every such change,
+    // slots at or after this position are treated as stale and refreshed in one pass the next time one is needed.
+    private int firstStaleSlot = Integer.MAX_VALUE;
+
     /**
-     * Returns true if the list contains an equivalent person with the same name as the given argument.
+     * Returns true if the list contains an equivalent person with the same uuid as the given argument.
      */
     public boolean containsUuid(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameUuid);
+        return uuidSlots.containsKey(toCheck.getUuid());
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain it.
+     * Like {@code List#indexOf(Object)}, the person found must be equal to {@code person} in all fields.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        int slot = slotOf(person.getUuid());
+        if (slot == -1 || !internalList.get(slot).equals(person)) {
+            return -1;
+        }
+        return slot;
     }
 
     /**
@@ -42,7 +80,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsName(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameName);
+        return nameCounts.containsKey(toCheck.getName());
     }
 
     /**
@@ -50,7 +88,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPhoneNumber(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePhoneNumber);
+        return phoneIndex.contains(toCheck.getPhone());
     }
 
     /**
@@ -63,6 +101,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (containsUuid(toAdd) || containsPhoneNumber(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -74,7 +113,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         CollectionUtil.requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -83,6 +122,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        if (!target.isSameUuid(editedPerson) && containsUuid(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        removeFromIndexes(target);
+        addToIndexes(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -92,45 +137,253 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(toRemove);
+        internalList.remove(index);
+        firstStaleSlot = Math.min(firstStaleSlot, index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * The indexes of {@code replacement} are copied over as its persons are already known to be unique.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        replacement.refreshStaleSlots();
+        uuidSlots = new HashMap<>(replacement.uuidSlots);
+        phoneIndex.setAll(replacement.phoneIndex);
+        nameCounts = new HashMap<>(replacement.nameCounts);
+        tagIndex.setAll(replacement.tagIndex);
+        nameTokenIndex.setAll(replacement.nameTokenIndex);
+        firstStaleSlot = Integer.MAX_VALUE;
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * Uniqueness is checked in a single hashing pass that also builds the indexes for the new contents. The first
+     * conflicting pair of persons found is reported through the thrown {@code DuplicatePersonException}, in which
+     * case this list is left unchanged.
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        int expectedSize = (int) (persons.size() / 0.75f) + 1;
+        Map<Uuid, Integer> newUuidSlots = new HashMap<>(expectedSize);
+        PhoneIndex newPhoneIndex = new PhoneIndex();
+        Map<Name, Integer> newNameCounts = new HashMap<>(expectedSize);
+        TagIndex newTagIndex = new TagIndex();
+        NameTokenIndex newNameTokenIndex = new NameTokenIndex();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Integer sameUuidSlot = newUuidSlots.putIfAbsent(person.getUuid(), i);
+            if (sameUuidSlot != null) {
+                throw new DuplicatePersonException(persons.get(sameUuidSlot), person);
+            }
+            Person samePhone = newPhoneIndex.putIfAbsent(person);
+            if (samePhone != null) {
+                throw new DuplicatePersonException(samePhone, person);
+            }
+            newNameCounts.merge(person.getName(), 1, Integer::sum);
+            newTagIndex.add(person);
+            newNameTokenIndex.add(person);
         }
 
+        uuidSlots = newUuidSlots;
+        phoneIndex.setAll(newPhoneIndex);
+        nameCounts = newNameCounts;
+        tagIndex.replaceWith(newTagIndex);
+        nameTokenIndex.replaceWith(newNameTokenIndex);
+        firstStaleSlot = Integer.MAX_VALUE;
         internalList.setAll(persons);
     }
 
     /**
-     * If there is a person with the same Uuid in the list, replace the person with the person being merged.
-     * If the Uuid is not found in the list, add the new person.
-     * @param personToMerge
+     * Replaces the {@code removedCount} persons from position {@code from} onwards with {@code added}.
+     *
+     * This replays a change that is known to keep the persons unique, such as the reverse of an earlier change to
+     * this list, so unlike the other modifications it does not check for duplicate persons. Its cost depends on the
+     * number of persons removed and added rather than on the size of the list.
      */
-    public void mergePerson(Person personToMerge) {
-        if (!containsUuid(personToMerge)) {
-            add(personToMerge);
+    public void replaceRange(int from, int removedCount, List<Person> added) {
+        CollectionUtil.requireAllNonNull(added);
+        if (from < 0 || removedCount < 0 || from + removedCount > internalList.size()) {
+            throw new IndexOutOfBoundsException("Range: " + from + " + " + removedCount
+                    + ", Size: " + internalList.size());
+        }
+
+        for (int i = from; i < from + removedCount; i++) {
+            removeFromIndexes(internalList.get(i));
+        }
+        for (int i = 0; i < added.size(); i++) {
+            addToIndexes(added.get(i), from + i);
+        }
+
+        if (removedCount == added.size() && removedCount == 1) {
+            internalList.set(from, added.get(0));
+        } else if (from == 0 && removedCount == internalList.size()) {
+            internalList.setAll(added);
         } else {
-            Person toReplace = internalList.stream()
-                    .filter(p -> p.getUuid().equals(personToMerge.getUuid()))
-                    .collect(Collectors.toList()).get(0);
-            setPerson(toReplace, personToMerge);
+            internalList.remove(from, from + removedCount);
+            internalList.addAll(from, added);
+        }
+        if (removedCount != added.size()) {
+            // The persons after the range have shifted, and their recorded slots start from the end of the shorter
+            // of the removed and added persons.
+            firstStaleSlot = Math.min(firstStaleSlot, from + Math.min(removedCount, added.size()));
         }
     }
 
+    /**
+     * Merges {@code personsToMerge} into the list in a single batch. Each person replaces the person in the list
+     * with the same uuid, or is added to the end of the list if there is no such person. If several persons to merge
+     * share a uuid, the last of them is kept.
+     *
+     * The persons are matched by uuid through a hash lookup rather than a scan of the list, and persons equal to the
+     * ones they replace are skipped, so the cost depends on the number of persons merged rather than on the size of
+     * the list. The phone numbers of the merged list are checked for duplicates before anything is changed, in which
+     * case a {@code DuplicatePersonException} is thrown and this list is left unchanged.
+     */
+    public void mergePersons(List<Person> personsToMerge) {
+        CollectionUtil.requireAllNonNull(personsToMerge);
+        Map<Uuid, Person> mergedPersons = new LinkedHashMap<>();
+        for (Person person : personsToMerge) {
+            mergedPersons.put(person.getUuid(), person);
+        }
+        checkMergedPhoneNumbers(mergedPersons);
+
+        List<Integer> replacedSlots = new ArrayList<>();
+        List<Person> replacements = new ArrayList<>();
+        List<Person> additions = new ArrayList<>();
+        for (Person person : mergedPersons.values()) {
+            int slot = slotOf(person.getUuid());
+            if (slot == -1) {
+                additions.add(person);
+            } else if (!internalList.get(slot).equals(person)) {
+                replacedSlots.add(slot);
+                replacements.add(person);
+            }
+        }
+
+        replaceAndAdd(replacedSlots, replacements, additions);
+    }
+
+    /**
+     * Replaces each person {@code target} that is a key of {@code editedPersons} with the person it maps to, as a
+     * single change to the list. Every {@code target} must exist in the list.
+     *
+     * The persons are located through the uuid index, and the list is checked for duplicate persons only once all
+     * replacements are known, so persons may swap phone numbers with each other. If a duplicate person would result,
+     * a {@code DuplicatePersonException} is thrown and this list is left unchanged.
+     */
+    public void replacePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        List<Integer> replacedSlots = new ArrayList<>(editedPersons.size());
+        List<Person> replacements = new ArrayList<>(editedPersons.size());
+        for (Map.Entry<Person, Person> entry : editedPersons.entrySet()) {
+            CollectionUtil.requireAllNonNull(entry.getKey(), entry.getValue());
+            int slot = indexOf(entry.getKey());
+            if (slot == -1) {
+                throw new PersonNotFoundException();
+            }
+            replacedSlots.add(slot);
+            replacements.add(entry.getValue());
+        }
+
+        Set<Integer> replacedSlotSet = new HashSet<>(replacedSlots);
+        Map<Uuid, Person> replacementUuids = new HashMap<>();
+        Map<Phone, Person> replacementPhones = new HashMap<>();
+        for (Person replacement : replacements) {
+            Person sameUuid = replacementUuids.putIfAbsent(replacement.getUuid(), replacement);
+            Person samePhone = replacementPhones.putIfAbsent(replacement.getPhone(), replacement);
+            if (sameUuid != null || samePhone != null) {
+                throw new DuplicatePersonException(sameUuid != null ? sameUuid : samePhone, replacement);
+            }
+            // A person that is not replaced keeps its uuid and phone number.
+            int sameUuidSlot = slotOf(replacement.getUuid());
+            if (sameUuidSlot != -1 && !replacedSlotSet.contains(sameUuidSlot)) {
+                throw new DuplicatePersonException(internalList.get(sameUuidSlot), replacement);
+            }
+            Optional<Person> phoneOwner = phoneIndex.get(replacement.getPhone());
+            if (phoneOwner.isPresent() && !replacedSlotSet.contains(slotOf(phoneOwner.get().getUuid()))) {
+                throw new DuplicatePersonException(phoneOwner.get(), replacement);
+            }
+        }
+
+        replaceAndAdd(replacedSlots, replacements, List.of());
+    }
+
+    /**
+     * Replaces the persons at {@code replacedSlots} with {@code replacements} as one change to the backing list, and
+     * then adds {@code additions} to the end of the list. The resulting list must not contain duplicate persons.
+     */
+    private void replaceAndAdd(List<Integer> replacedSlots, List<Person> replacements, List<Person> additions) {
+        // Every replaced person leaves the indexes before any new person enters them, as a new person may take over
+        // the phone number of another replaced person.
+        for (int slot : replacedSlots) {
+            removeFromIndexes(internalList.get(slot));
+        }
+        for (int i = 0; i < replacements.size(); i++) {
+            addToIndexes(replacements.get(i), replacedSlots.get(i));
+        }
+        for (int i = 0; i < additions.size(); i++) {
+            addToIndexes(additions.get(i), internalList.size() + i);
+        }
+
+        internalList.setAt(replacedSlots, replacements);
+        internalList.addAll(additions);
+    }
+
+    /**
+     * Throws a {@code DuplicatePersonException} if merging {@code mergedPersons}, keyed by uuid, would leave two
+     * persons in the list with the same phone number.
+     */
+    private void checkMergedPhoneNumbers(Map<Uuid, Person> mergedPersons) {
+        Map<Phone, Person> mergedPhones = new HashMap<>();
+        for (Person person : mergedPersons.values()) {
+            Person samePhone = mergedPhones.putIfAbsent(person.getPhone(), person);
+            if (samePhone != null) {
+                throw new DuplicatePersonException(samePhone, person);
+            }
+            // A person in the list keeps its phone number unless it is replaced by a merged person, whose phone
+            // number is then known to differ from this one.
+            Optional<Person> owner = phoneIndex.get(person.getPhone());
+            if (owner.isPresent() && !owner.get().isSameUuid(person)
+                    && !mergedPersons.containsKey(owner.get().getUuid())) {
+                throw new DuplicatePersonException(owner.get(), person);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the tags held by the persons in this list.
+     * The same index is kept up to date for the lifetime of this list.
+     */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns the index of the phone numbers of the persons in this list.
+     * The same index is kept up to date for the lifetime of this list.
+     */
+    public PhoneIndex getPhoneIndex() {
+        return phoneIndex;
+    }
+
+    /**
+     * Returns the index of the words in the names of the persons in this list.
+     * The same index is kept up to date for the lifetime of this list.
+     */
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -140,7 +393,8 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        // Iterating over the unmodifiable view prevents removals that would bypass the indexes.
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -156,17 +410,40 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person with {@code uuid} in the list, or -1 if there is no such person.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameUuid(persons.get(j))
-                    || persons.get(i).isSamePhoneNumber(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int slotOf(Uuid uuid) {
+        Integer slot = uuidSlots.get(uuid);
+        if (slot == null) {
+            return -1;
+        }
+        if (slot >= firstStaleSlot) {
+            refreshStaleSlots();
+            slot = uuidSlots.get(uuid);
+        }
+        return slot;
+    }
+
+    private void refreshStaleSlots() {
+        for (int i = firstStaleSlot; i < internalList.size(); i++) {
+            uuidSlots.put(internalList.get(i).getUuid(), i);
         }
-        return true;
+        firstStaleSlot = Integer.MAX_VALUE;
+    }
+
+    private void addToIndexes(Person person, int slot) {
+        uuidSlots.put(person.getUuid(), slot);
+        phoneIndex.putIfAbsent(person);
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        tagIndex.add(person);
+        nameTokenIndex.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        uuidSlots.remove(person.getUuid());
+        phoneIndex.remove(person);
+        nameCounts.computeIfPresent(person.getName(), (name, count) -> count == 1 ? null : count - 1);
+        tagIndex.remove(person);
+        nameTokenIndex.remove(person);
     }
 }
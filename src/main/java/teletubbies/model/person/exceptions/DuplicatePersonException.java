@@ -1,5 +1,7 @@
 package teletubbies.model.person.exceptions;
 
+import teletubbies.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,15 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} reporting the pair of persons that conflict.
+     *
+     * @param existing person that is already present
+     * @param duplicate person that conflicts with {@code existing}
+     */
+    public DuplicatePersonException(Person existing, Person duplicate) {
+        super("Operation would result in duplicate persons: " + duplicate.getName() + " (" + duplicate.getPhone()
+                + ") conflicts with " + existing.getName() + " (" + existing.getPhone() + ")");
+    }
 }
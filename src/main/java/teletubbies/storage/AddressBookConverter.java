@@ -0,0 +1,83 @@
+package teletubbies.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import teletubbies.commons.core.AddressBookFormat;
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the storage for address books in each {@code AddressBookFormat}, and converts address books between them.
+ *
+ * Can also be run on its own to convert a file, with the arguments
+ * {@code <source format> <source file> <target format> <target file>}, such as {@code json data/teletubbies.json
+ * binary data/teletubbies.bin}.
+ */
+public class AddressBookConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookConverter"
+            + " <json|binary> <source file> <json|binary> <target file>";
+
+    private AddressBookConverter() {}
+
+    /**
+     * Returns a storage for the address book at {@code filePath} in {@code format}.
+     * JSON address books are kept with a journal of the changes since they were last written in full.
+     */
+    public static AddressBookStorage createStorage(AddressBookFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JournaledAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown address book format: " + format);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code sourcePath} in {@code sourceFormat} and writes it to {@code targetPath} in
+     * {@code targetFormat}, replacing any file there.
+     *
+     * @throws DataConversionException if the source file is not in the correct format.
+     * @throws IOException if the source file does not exist, or there was an error writing the target file.
+     */
+    public static void convert(AddressBookFormat sourceFormat, Path sourcePath, AddressBookFormat targetFormat,
+            Path targetPath) throws DataConversionException, IOException {
+        ReadOnlyAddressBook addressBook = createStorage(sourceFormat, sourcePath).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(sourcePath.toString()));
+        createStorage(targetFormat, targetPath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the address book file given by {@code args}, as described in {@link AddressBookConverter}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(parseFormat(args[0]), Paths.get(args[1]), parseFormat(args[2]), Paths.get(args[3]));
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[1] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static AddressBookFormat parseFormat(String format) {
+        return AddressBookFormat.valueOf(format.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,335 @@
+package teletubbies.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.FileUtil;
+import teletubbies.model.AddressBook;
+import teletubbies.model.ReadOnlyAddressBook;
+import teletubbies.model.person.Address;
+import teletubbies.model.person.Email;
+import teletubbies.model.person.Name;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.Phone;
+import teletubbies.model.person.Remark;
+import teletubbies.model.person.Uuid;
+import teletubbies.model.person.exceptions.DuplicatePersonException;
+import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header holding a magic number, the format version, the length of the rest of the file and a
+ * CRC32 checksum of it. A dictionary of the distinct tags follows, then the persons, each of which refers to its tags
+ * by their positions in the dictionary. Strings are written as their length in bytes followed by their UTF-8 encoding,
+ * and numbers are big-endian.
+ *
+ * Only valid persons are written, and the checksum shows that the file is as it was written, so the fields of the
+ * persons read are not validated again. Reading the file is then much quicker than reading the same address book in
+ * JSON, but the file cannot be edited by users. Persons sharing a tag share the same {@code Tag} once read.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book format version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted.";
+
+    /** The bytes "TTAB" that every binary address book starts with. */
+    static final int MAGIC = 0x54544142;
+    /** The size of the magic number, format version, length of the rest of the file and checksum. */
+    static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NULL_LENGTH = -1;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file first, so that the previous file is kept if writing fails.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        write(addressBook.getPersonList(), tempPath);
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code filePath}, replacing the contents of the file.
+     * The body is streamed to the file first, and the header, which holds its checksum, is filled in after.
+     */
+    private static void write(List<? extends Person> persons, Path filePath) throws IOException {
+        List<Tag> tags = new ArrayList<>();
+        Map<List<Object>, Integer> tagIndices = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                if (tagIndices.putIfAbsent(tagKeyOf(tag), tags.size()) == null) {
+                    tags.add(tag);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            CRC32 checksum = new CRC32();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum), BUFFER_SIZE));
+
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                writeTag(out, tag);
+            }
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, tagIndices);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(channel.position() - HEADER_SIZE)
+                    .putInt((int) checksum.getValue())
+                    .flip();
+            channel.write(header, 0);
+        }
+    }
+
+    /**
+     * Returns a key that is equal for tags with the same name, value and roles, unlike the tags themselves.
+     */
+    private static List<Object> tagKeyOf(Tag tag) {
+        return Arrays.asList(tag.tagName, tag.getTagValue(),
+                tag.editAccessRoles == null ? null : Arrays.asList(tag.editAccessRoles));
+    }
+
+    private static void writeTag(DataOutputStream out, Tag tag) throws IOException {
+        writeString(out, tag.tagName);
+        writeString(out, tag.getTagValue());
+        if (tag.editAccessRoles == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(tag.editAccessRoles.length);
+        for (Role role : tag.editAccessRoles) {
+            out.writeByte(role.ordinal());
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<List<Object>, Integer> tagIndices)
+            throws IOException {
+        writeString(out, person.getUuid().uuid);
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getRemark().value);
+        out.writeByte(person.getCompletionStatus().status.ordinal());
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIndices.get(tagKeyOf(tag)));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the address book in {@code filePath}, which must exist.
+     * Beyond the header and checksum, only the tags in the dictionary and the uniqueness of the persons are checked.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not a binary address book of this version, or is corrupted.
+     */
+    private static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        long readStart = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        long bodyLength = buffer.getLong();
+        int expectedChecksum = buffer.getInt();
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate());
+        if (bodyLength != buffer.remaining() || (int) checksum.getValue() != expectedChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        List<Person> persons;
+        try {
+            Tag[] tags = new Tag[buffer.getInt()];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = readTag(buffer);
+            }
+            int personCount = buffer.getInt();
+            persons = new ArrayList<>(personCount);
+            CompletionStatusTag[] completionStatusTags = Arrays.stream(CompletionStatus.values())
+                    .map(CompletionStatusTag::new)
+                    .toArray(CompletionStatusTag[]::new);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(buffer, tags, completionStatusTags));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | NegativeArraySizeException | NullPointerException e) {
+            // Only a file crafted to pass the checksum gets here, so no more is said of what is wrong with it.
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+
+        long insertionStart = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe);
+        }
+        long insertionEnd = System.nanoTime();
+
+        logger.info(String.format("Loaded %d persons: reading took %d ms, insertion took %d ms",
+                persons.size(), TimeUnit.NANOSECONDS.toMillis(insertionStart - readStart),
+                TimeUnit.NANOSECONDS.toMillis(insertionEnd - insertionStart)));
+        return addressBook;
+    }
+
+    /**
+     * Reads a tag from the dictionary, validating its name as there are few tags compared to persons.
+     */
+    private static Tag readTag(ByteBuffer buffer) {
+        String tagName = readString(buffer);
+        String tagValue = readString(buffer);
+        int roleCount = buffer.getInt();
+        Role[] editAccessRoles = null;
+        if (roleCount != NULL_LENGTH) {
+            editAccessRoles = new Role[roleCount];
+            for (int i = 0; i < roleCount; i++) {
+                editAccessRoles[i] = Role.values()[buffer.get()];
+            }
+        }
+        return new Tag(tagName, tagValue, editAccessRoles, false);
+    }
+
+    private static Person readPerson(ByteBuffer buffer, Tag[] tags, CompletionStatusTag[] completionStatusTags) {
+        Uuid uuid = new Uuid(readString(buffer));
+        Name name = Name.ofTrusted(readString(buffer));
+        Phone phone = Phone.ofTrusted(readString(buffer));
+        Email email = Email.ofTrusted(readString(buffer));
+        Address address = Address.ofTrusted(readString(buffer));
+        Remark remark = new Remark(readString(buffer));
+        CompletionStatusTag completionStatusTag = completionStatusTags[buffer.get()];
+        int tagCount = buffer.getInt();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[buffer.getInt()]);
+        }
+        return new Person(uuid, name, phone, email, address, completionStatusTag, remark, personTags);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        String string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+}
@@ -0,0 +1,163 @@
+package teletubbies.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.commons.util.StringUtil;
+import teletubbies.model.VersionSpillStore;
+import teletubbies.model.person.PersonListChange;
+
+/**
+ * A {@code VersionSpillStore} that writes versions to gzip-compressed JSON segment files in a directory.
+ *
+ * Versions are buffered in memory until {@code SEGMENT_SIZE} of them are pushed, and then written together as one
+ * segment, so that the cost of opening a file and compressing is shared by a whole segment. Taking back a version
+ * when the buffer is empty reads the newest segment back into the buffer and deletes its file.
+ */
+public class CompressedSegmentSpillStore implements VersionSpillStore {
+
+    public static final int SEGMENT_SIZE = 32;
+
+    private static final Logger logger = LogsCenter.getLogger(CompressedSegmentSpillStore.class);
+    private static final String SEGMENT_FILE_FORMAT = "segment-%d.json.gz";
+
+    private final Path directory;
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private final List<List<PersonListChange>> buffer = new ArrayList<>(SEGMENT_SIZE);
+    private int segmentCount;
+
+    /**
+     * Creates a store writing its segments to {@code directory}, which must exist.
+     */
+    public CompressedSegmentSpillStore(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a store writing its segments to a new temporary directory, which is deleted when the application exits.
+     * @throws IOException if the directory could not be created.
+     */
+    public static CompressedSegmentSpillStore createInTempDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("teletubbies-undo");
+        directory.toFile().deleteOnExit();
+        return new CompressedSegmentSpillStore(directory);
+    }
+
+    @Override
+    public void push(List<PersonListChange> changes) throws IOException {
+        requireNonNull(changes);
+        buffer.add(changes);
+        if (buffer.size() < SEGMENT_SIZE) {
+            return;
+        }
+
+        Path segment = directory.resolve(String.format(SEGMENT_FILE_FORMAT, segmentCount));
+        JsonSerializableSegment serializableSegment = JsonSerializableSegment.fromModelType(buffer);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(segment))) {
+            out.write(JsonUtil.toJsonString(serializableSegment).getBytes(StandardCharsets.UTF_8));
+        }
+        segment.toFile().deleteOnExit();
+        segments.push(segment);
+        segmentCount++;
+        buffer.clear();
+    }
+
+    @Override
+    public List<PersonListChange> pop() throws IOException, DataConversionException {
+        if (buffer.isEmpty()) {
+            readNewestSegment();
+        }
+        return buffer.remove(buffer.size() - 1);
+    }
+
+    private void readNewestSegment() throws IOException, DataConversionException {
+        Path segment = segments.pop();
+        String json;
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(segment))) {
+            json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(segment);
+        }
+        try {
+            buffer.addAll(JsonUtil.fromJsonString(json, JsonSerializableSegment.class).toModelType());
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return buffer.isEmpty() && segments.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        buffer.clear();
+        while (!segments.isEmpty()) {
+            Path segment = segments.pop();
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                logger.warning("Failed to delete spilled undo history " + segment + ": " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a segment, holding the changes leading to each version in the order pushed.
+     */
+    static class JsonSerializableSegment {
+
+        private final List<List<JsonAdaptedPersonListChange>> versions = new ArrayList<>();
+
+        @JsonCreator
+        JsonSerializableSegment(@JsonProperty("versions") List<List<JsonAdaptedPersonListChange>> versions) {
+            this.versions.addAll(versions);
+        }
+
+        static JsonSerializableSegment fromModelType(List<List<PersonListChange>> source) {
+            List<List<JsonAdaptedPersonListChange>> adaptedVersions = new ArrayList<>(source.size());
+            for (List<PersonListChange> changes : source) {
+                List<JsonAdaptedPersonListChange> adaptedChanges = new ArrayList<>(changes.size());
+                for (PersonListChange change : changes) {
+                    adaptedChanges.add(new JsonAdaptedPersonListChange(change));
+                }
+                adaptedVersions.add(adaptedChanges);
+            }
+            return new JsonSerializableSegment(adaptedVersions);
+        }
+
+        List<List<PersonListChange>> toModelType() throws IllegalValueException {
+            List<List<PersonListChange>> modelVersions = new ArrayList<>(versions.size());
+            for (List<JsonAdaptedPersonListChange> adaptedChanges : versions) {
+                List<PersonListChange> changes = new ArrayList<>(adaptedChanges.size());
+                for (JsonAdaptedPersonListChange adaptedChange : adaptedChanges) {
+                    changes.add(adaptedChange.toModelType());
+                }
+                modelVersions.add(changes);
+            }
+            return modelVersions;
+        }
+    }
+}
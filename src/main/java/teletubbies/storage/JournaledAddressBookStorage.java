@@ -0,0 +1,471 @@
+package teletubbies.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.FileUtil;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.commons.util.StringUtil;
+import teletubbies.model.AddressBook;
+import teletubbies.model.AddressBookSnapshot;
+import teletubbies.model.PersonChangeEvent;
+import teletubbies.model.PersonChangeListener;
+import teletubbies.model.ReadOnlyAddressBook;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
+import teletubbies.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps the address book as a JSON snapshot file, followed by a journal of the
+ * changes made to it since the snapshot was written.
+ *
+ * The storage listens for the changes to the address book it saves. Saving then only appends the changes made since
+ * the last save to the journal, as a single line, so that the cost of a save depends on the number of persons changed
+ * rather than on the size of the address book. Once the journal grows past a number of entries or bytes, a new
+ * snapshot is written in the background and the journal is started afresh. Reading the address book replays the
+ * journal on the snapshot.
+ *
+ * Journal entries are numbered in the order they are appended, and a snapshot records the number of the last entry it
+ * includes, so that entries already in the snapshot are skipped however a compaction was interrupted. Snapshots are
+ * in the same format as the files written by {@code JsonAddressBookStorage}.
+ *
+ * Changes may be reported from one thread while address books are saved on another. A save only appends the changes
+ * up to the version of the address book saved, so an immutable snapshot of it can be saved while it changes further.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage, PersonChangeListener {
+
+    public static final int DEFAULT_COMPACTION_ENTRY_COUNT = 1000;
+    public static final long DEFAULT_COMPACTION_BYTE_COUNT = 8L * 1024 * 1024;
+    public static final String MESSAGE_JOURNAL_MISMATCH = "Journal does not match the address book it was written for.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    private static final String SNAPSHOT_TEMP_SUFFIX = ".tmp";
+    private static final long UNKNOWN_VERSION = AddressBookSnapshot.UNKNOWN_VERSION;
+    private static final JsonAddressBookWriter SNAPSHOT_WRITER = new JsonAddressBookWriter(false);
+
+    private final Path filePath;
+    private final int compactionEntryCount;
+    private final long compactionByteCount;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The changes made to the address book since it was last saved, in the order they were made.
+    private final Queue<PersonChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>();
+    // Whether the files hold the address book as it was before the pending changes were made.
+    private boolean isSynced;
+    private long syncedVersion = UNKNOWN_VERSION;
+    private long nextSequence = 1;
+    private int journalEntryCount;
+    private long journalByteCount;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a storage keeping its snapshot at {@code filePath}, which compacts its journal with the default limits.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_ENTRY_COUNT, DEFAULT_COMPACTION_BYTE_COUNT);
+    }
+
+    /**
+     * Creates a storage keeping its snapshot at {@code filePath}, which compacts its journal once it holds
+     * {@code compactionEntryCount} entries or {@code compactionByteCount} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionEntryCount, long compactionByteCount) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionEntryCount = compactionEntryCount;
+        this.compactionByteCount = compactionByteCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void onPersonsChanged(PersonChangeEvent event) {
+        pendingChanges.add(event);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * An entry that cannot be read at the end of a journal is taken to have been cut short while it was appended,
+     * and is dropped.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            awaitCompaction();
+            isSynced = false;
+        }
+
+        long replayStart = System.nanoTime();
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+        List<JsonSerializableJournalEntry> entries = new ArrayList<>();
+        boolean isComplete = readJournal(compactingJournalPathOf(filePath), entries);
+        int compactingEntryCount = entries.size();
+        isComplete &= readJournal(journalPathOf(filePath), entries);
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        long lastSequence;
+        AddressBook addressBook;
+        try {
+            addressBook = reader.read(filePath);
+            lastSequence = reader.getJournalSequence();
+            List<Person> persons = null;
+            for (JsonSerializableJournalEntry entry : entries) {
+                if (entry.getSequence() <= lastSequence) {
+                    continue; // already in the snapshot, or appended twice while rotating the journal
+                } else if (entry.getSequence() > lastSequence + 1) {
+                    throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+                }
+                if (persons == null) {
+                    persons = new ArrayList<>(addressBook.getPersonList());
+                }
+                for (PersonListChange change : entry.toModelType()) {
+                    replay(change, persons);
+                }
+                lastSequence = entry.getSequence();
+            }
+            if (persons != null) {
+                addressBook = new AddressBook();
+                addressBook.setPersons(persons);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+        logger.info("Read " + filePath + " and replayed " + entries.size() + " journal entries in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - replayStart) + " ms");
+
+        if (isOwnFile) {
+            pendingChanges.clear();
+            syncedVersion = UNKNOWN_VERSION;
+            isSynced = isComplete;
+            nextSequence = lastSequence + 1;
+            for (JsonSerializableJournalEntry entry : entries) {
+                nextSequence = Math.max(nextSequence, entry.getSequence() + 1);
+            }
+            journalEntryCount = entries.size() - compactingEntryCount;
+            Path journalPath = journalPathOf(filePath);
+            journalByteCount = Files.exists(journalPath) ? Files.size(journalPath) : 0;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Adds the entries of {@code journal} to {@code entries}, in order.
+     * Returns false if an entry at the end of the journal could not be read and was dropped.
+     */
+    private static boolean readJournal(Path journal, List<JsonSerializableJournalEntry> entries)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journal)) {
+            return true;
+        }
+        List<String> lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(JsonUtil.fromJsonString(lines.get(i), JsonSerializableJournalEntry.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Dropping incomplete last entry of " + journal + ": " + e.getMessage());
+                    return false;
+                }
+                throw new DataConversionException(e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes {@code change} to {@code persons}, checking that the persons it removes are the ones in the list.
+     */
+    private static void replay(PersonListChange change, List<Person> persons) throws IllegalValueException {
+        int from = change.getFrom();
+        List<Person> removed = change.getRemoved();
+        List<Person> added = change.getAdded();
+        if (from < 0 || from + removed.size() > persons.size()
+                || !persons.subList(from, from + removed.size()).equals(removed)) {
+            throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+        }
+
+        int replacedCount = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replacedCount; i++) {
+            persons.set(from + i, added.get(i));
+        }
+        if (removed.size() > replacedCount) {
+            persons.subList(from + replacedCount, from + removed.size()).clear();
+        } else if (added.size() > replacedCount) {
+            persons.addAll(from + replacedCount, added.subList(replacedCount, added.size()));
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} by appending the changes made to it since it was last saved to the journal.
+     * The whole address book is written as a new snapshot instead if those changes are not known, such as when it
+     * was not read from this storage, or when the storage was not told of every change to it.
+     * {@code addressBook} must be an {@code AddressBook}, or a snapshot of one, for its changes to be known.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        long version = versionOf(addressBook);
+        List<PersonChangeEvent> changes = takeChangesUpTo(version);
+        try {
+            if (changes == null) {
+                saveSnapshot(addressBook, version);
+                return;
+            }
+            if (!changes.isEmpty()) {
+                appendToJournal(changes);
+            }
+        } catch (IOException e) {
+            // The files may have been written in part, so the next save writes a snapshot instead of appending.
+            isSynced = false;
+            throw e;
+        }
+        syncedVersion = version;
+        if (journalEntryCount >= compactionEntryCount || journalByteCount >= compactionByteCount) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is always written as a snapshot, without a journal, to any file other than this storage's.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        writeSnapshot(filePath, addressBook.getPersonList(), 0);
+        Files.deleteIfExists(journalPathOf(filePath));
+        Files.deleteIfExists(compactingJournalPathOf(filePath));
+    }
+
+    private static long versionOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).getVersion();
+        } else if (addressBook instanceof AddressBookSnapshot) {
+            return ((AddressBookSnapshot) addressBook).getVersion();
+        }
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Removes the pending changes up to {@code version} and returns them, or all of them if the version is not known.
+     * Returns null if they are not exactly the changes from the address book in the files to {@code version}.
+     */
+    private List<PersonChangeEvent> takeChangesUpTo(long version) {
+        long lastVersion = version == UNKNOWN_VERSION ? Long.MAX_VALUE : version;
+        List<PersonChangeEvent> changes = new ArrayList<>();
+        boolean isContiguous = isSynced;
+        long expectedVersion = syncedVersion;
+        PersonChangeEvent change;
+        while ((change = pendingChanges.peek()) != null && change.getVersion() <= lastVersion) {
+            pendingChanges.remove();
+            if (expectedVersion == UNKNOWN_VERSION) {
+                // The first change since the address book was read from the files.
+                expectedVersion = change.getVersion() - 1;
+            }
+            isContiguous &= change.getVersion() == expectedVersion + 1;
+            expectedVersion = change.getVersion();
+            changes.add(change);
+        }
+        return isContiguous && version != UNKNOWN_VERSION && expectedVersion == version ? changes : null;
+    }
+
+    private void appendToJournal(List<PersonChangeEvent> changes) throws IOException {
+        List<JsonAdaptedPersonListChange> adaptedChanges = changes.stream()
+                .map(event -> new JsonAdaptedPersonListChange(
+                        new PersonListChange(event.getFrom(), event.getRemoved(), event.getAdded())))
+                .collect(Collectors.toList());
+        byte[] entry = (JsonUtil.toCompactJsonString(new JsonSerializableJournalEntry(nextSequence, adaptedChanges))
+                + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPathOf(filePath), entry, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        nextSequence++;
+        journalEntryCount++;
+        journalByteCount += entry.length;
+    }
+
+    /**
+     * Writes the whole of {@code addressBook}, which is at {@code version}, as the snapshot, and deletes the journal.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, long version) throws IOException {
+        awaitCompaction();
+        writeSnapshot(filePath, addressBook.getPersonList(), nextSequence - 1);
+        Files.deleteIfExists(journalPathOf(filePath));
+        Files.deleteIfExists(compactingJournalPathOf(filePath));
+
+        isSynced = version != UNKNOWN_VERSION;
+        syncedVersion = version;
+        journalEntryCount = 0;
+        journalByteCount = 0;
+    }
+
+    /**
+     * Starts a new journal and writes {@code addressBook}, which holds every entry of the old journal, as the
+     * snapshot in the background. Does nothing if an earlier compaction is still running.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) {
+        if (!compaction.isDone()) {
+            return;
+        }
+
+        Path journalPath = journalPathOf(filePath);
+        Path compactingJournalPath = compactingJournalPathOf(filePath);
+        try {
+            if (Files.exists(compactingJournalPath)) {
+                // An earlier compaction failed, so its entries are kept together with the ones since.
+                Files.write(compactingJournalPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+                Files.delete(journalPath);
+            } else {
+                Files.move(journalPath, compactingJournalPath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to start a new journal for " + filePath + ": " + StringUtil.getDetails(e));
+            return;
+        }
+        journalEntryCount = 0;
+        journalByteCount = 0;
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        long sequence = nextSequence - 1;
+        compaction = compactor.submit(() -> {
+            try {
+                long compactionStart = System.nanoTime();
+                writeSnapshot(filePath, persons, sequence);
+                Files.deleteIfExists(compactingJournalPath);
+                logger.info("Compacted the journal of " + filePath + " in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - compactionStart) + " ms");
+            } catch (IOException e) {
+                logger.warning("Failed to compact the journal of " + filePath + ": " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Waits for the compaction in the background, if any, to finish.
+     */
+    void awaitCompaction() {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to compact the journal of " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes {@code persons} as the snapshot at {@code filePath}, including the journal up to entry {@code sequence}.
+     * The snapshot is written to a temporary file first, so that the previous snapshot is kept if writing fails.
+     */
+    private static void writeSnapshot(Path filePath, List<Person> persons, long sequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_TEMP_SUFFIX);
+        SNAPSHOT_WRITER.writeSnapshot(persons, sequence, tempPath);
+        try {
+            Files.move(tempPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path compactingJournalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Jackson-friendly version of a journal entry, holding the changes saved together in the order they were made.
+     */
+    static class JsonSerializableJournalEntry {
+
+        private final long sequence;
+        private final List<JsonAdaptedPersonListChange> changes = new ArrayList<>();
+
+        @JsonCreator
+        JsonSerializableJournalEntry(@JsonProperty("sequence") long sequence,
+                @JsonProperty("changes") List<JsonAdaptedPersonListChange> changes) {
+            this.sequence = sequence;
+            if (changes != null) {
+                this.changes.addAll(changes);
+            }
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        List<PersonListChange> toModelType() throws IllegalValueException {
+            List<PersonListChange> modelChanges = new ArrayList<>(changes.size());
+            for (JsonAdaptedPersonListChange change : changes) {
+                modelChanges.add(change.toModelType());
+            }
+            return modelChanges;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package teletubbies.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
+
+/**
+ * Jackson-friendly version of {@link PersonListChange}.
+ */
+class JsonAdaptedPersonListChange {
+
+    private final int from;
+    private final List<JsonAdaptedPerson> removed = new ArrayList<>();
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListChange(@JsonProperty("from") int from,
+            @JsonProperty("removed") List<JsonAdaptedPerson> removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.from = from;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code PersonListChange} into this class for Jackson use.
+     */
+    public JsonAdaptedPersonListChange(PersonListChange source) {
+        from = source.getFrom();
+        removed.addAll(source.getRemoved().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        added.addAll(source.getAdded().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code PersonListChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted persons.
+     */
+    public PersonListChange toModelType() throws IllegalValueException {
+        return new PersonListChange(from, toModelPersons(removed), toModelPersons(added));
+    }
+
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+}
@@ -0,0 +1,112 @@
+package teletubbies.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.model.AddressBook;
+import teletubbies.model.person.Name;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Reads an address book from a JSON file in a single pass, converting each person into a {@code Person} as soon as
+ * it is read.
+ *
+ * Unlike reading the file into a {@code JsonSerializableAddressBook}, neither the text of the file nor the adapted
+ * persons are all held in memory at once, so the memory taken up while reading is close to that of the address book
+ * read. The file is in the format written by {@code JsonSerializableAddressBook}, and fields other than the persons
+ * and the journal sequence of a {@code JournaledAddressBookStorage} snapshot are skipped.
+ */
+class JsonAddressBookReader {
+
+    public static final String PERSONS_FIELD = "persons";
+    public static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    public static final String MESSAGE_MISSING_PERSONS = "Address book's " + PERSONS_FIELD + " field is missing!";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private long journalSequence;
+
+    /**
+     * Reads the address book in {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read, or is not an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        long readStart = System.nanoTime();
+        List<Person> persons = null;
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    persons = readPersons(parser);
+                } else if (JOURNAL_SEQUENCE_FIELD.equals(field) && value.isNumeric()) {
+                    journalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (persons == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+
+        long insertionStart = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe);
+        }
+        long insertionEnd = System.nanoTime();
+
+        logger.info(String.format("Loaded %d persons: reading took %d ms, insertion took %d ms",
+                persons.size(), TimeUnit.NANOSECONDS.toMillis(insertionStart - readStart),
+                TimeUnit.NANOSECONDS.toMillis(insertionEnd - insertionStart)));
+        return addressBook;
+    }
+
+    /**
+     * Returns the number of the last journal entry included in the address book last read, or 0 if it has none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Reads the persons in the array starting at the current token of {@code parser}, checking for duplicate names.
+     */
+    private static List<Person> readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        if (parser.getCurrentToken() != JsonToken.END_ARRAY) {
+            throw new JsonParseException(parser, "Expected a person object");
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,107 @@
+package teletubbies.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.model.person.Person;
+import teletubbies.model.tag.Tag;
+
+/**
+ * Writes an address book to a JSON file, streaming the fields of each person to the file as it goes.
+ *
+ * Unlike writing a {@code JsonSerializableAddressBook}, no adapted persons or text of the whole file are built up
+ * in memory first. The file is in the format read by {@code JsonAddressBookReader}.
+ */
+class JsonAddressBookWriter {
+
+    private final boolean isCompact;
+
+    /**
+     * Constructs a writer that indents its output for reading by users, or writes it without any whitespace
+     * if {@code isCompact} is true.
+     */
+    JsonAddressBookWriter(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code persons} as an address book to {@code filePath}, replacing the contents of the file.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void write(List<? extends Person> persons, Path filePath) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isCompact)) {
+            generator.writeStartObject();
+            writePersons(generator, persons);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code persons} as a snapshot of a {@code JournaledAddressBookStorage} to {@code filePath}, recording
+     * that it includes the journal up to entry {@code journalSequence}.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void writeSnapshot(List<? extends Person> persons, long journalSequence, Path filePath)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(filePath, isCompact)) {
+            generator.writeStartObject();
+            writePersons(generator, persons);
+            generator.writeNumberField(JsonAddressBookReader.JOURNAL_SEQUENCE_FIELD, journalSequence);
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writePersons(JsonGenerator generator, List<? extends Person> persons) throws IOException {
+        generator.writeArrayFieldStart(JsonAddressBookReader.PERSONS_FIELD);
+        for (Person person : persons) {
+            writePerson(generator, person);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code person} with the same fields as a {@code JsonAdaptedPerson}.
+     */
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("uuid", person.getUuid().uuid);
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeStringField("completionStatus", person.getCompletionStatus().status.toString());
+        generator.writeStringField("remark", person.getRemark().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : person.getTags()) {
+            writeTag(generator, tag);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code tag} with the same fields as a {@code JsonAdaptedTag}.
+     */
+    private static void writeTag(JsonGenerator generator, Tag tag) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("tagName", tag.tagName);
+        generator.writeStringField("tagValue", tag.getTagValue());
+        if (tag.editAccessRoles == null) {
+            generator.writeNullField("editAccessRoles");
+        } else {
+            generator.writeArrayFieldStart("editAccessRoles");
+            for (Role role : tag.editAccessRoles) {
+                generator.writeString(role.name());
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
@@ -1,17 +1,24 @@
 package teletubbies.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import teletubbies.commons.core.LogsCenter;
 import teletubbies.commons.exceptions.IllegalValueException;
 import teletubbies.model.AddressBook;
 import teletubbies.model.ReadOnlyAddressBook;
+import teletubbies.model.person.Name;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +28,8 @@ public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,18 +51,35 @@ public class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are converted and checked for duplicate names in a single pass, then inserted into the
+     * {@code AddressBook} in one bulk operation.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        long conversionStart = System.nanoTime();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Set<Name> names = new HashSet<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasName(person)) {
+            if (!names.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
+        }
+
+        long insertionStart = System.nanoTime();
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, dpe);
         }
+        long insertionEnd = System.nanoTime();
+
+        logger.info(String.format("Loaded %d persons: conversion took %d ms, insertion took %d ms",
+                modelPersons.size(), TimeUnit.NANOSECONDS.toMillis(insertionStart - conversionStart),
+                TimeUnit.NANOSECONDS.toMillis(insertionEnd - insertionStart)));
         return addressBook;
     }
 
@@ -0,0 +1,104 @@
+package teletubbies.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import teletubbies.commons.core.LogsCenter;
+import teletubbies.commons.util.StringUtil;
+import teletubbies.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, so that the thread asking for a save
+ * does not wait for it to be written.
+ *
+ * A save is written once {@code flushDelayMillis} have passed since the first save asked for after the last write.
+ * Saves asked for in the meantime replace each other, so a burst of changes is written once, as its latest version.
+ * Failures to write are reported to the failure handler on the background thread.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long flushDelayMillis;
+    private final AtomicReference<ReadOnlyAddressBook> latestAddressBook = new AtomicReference<>();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> failureHandler = e -> {};
+
+    /**
+     * Creates a saver writing to {@code storage}, {@code flushDelayMillis} after a save is first asked for.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage storage, long flushDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    /**
+     * Reports every failure to write an address book to {@code failureHandler}, instead of the previous handler.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves {@code addressBook} in the background, unless another save is asked for before it is written.
+     * {@code addressBook} must not change after it is passed in.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (latestAddressBook.getAndSet(addressBook) == null) {
+            executor.schedule(this::writeLatest, flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the latest address book asked to be saved, if it has not been written yet, and waits until it is.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writeLatest).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Flushes the address book waiting to be saved, and stops saving in the background.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writeLatest() {
+        ReadOnlyAddressBook addressBook = latestAddressBook.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            long saveStart = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            logger.fine("Saved address book in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - saveStart)
+                    + " ms");
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+}
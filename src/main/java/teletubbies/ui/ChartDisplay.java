@@ -7,8 +7,8 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
 import javafx.scene.layout.Region;
-import teletubbies.model.person.Person;
-import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.CompletionStatusCounter;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
@@ -17,54 +17,29 @@ public class ChartDisplay extends UiPart<Region> {
 
     private static final String FXML = "ChartDisplay.fxml";
 
-    private ObservableList<Person> personList;
-
     @FXML
     private PieChart chartDisplay;
 
     /**
      * Creates a new ChartDisplay.
+     * Each slice of the chart is bound to a count of {@code completionStatusCounter}, so the chart is only
+     * updated when one of the counts changes.
      *
-     * @param personList The list of Persons to be checked.
+     * @param completionStatusCounter The counts of each completion status to be displayed.
      */
-    public ChartDisplay(ObservableList<Person> personList) {
+    public ChartDisplay(CompletionStatusCounter completionStatusCounter) {
         super(FXML);
-        requireNonNull(personList);
-        this.personList = personList;
-        loadChart();
-    }
-
-    /**
-     * Loads the chart with the updated data.
-     */
-    public void loadChart() {
-
-        int completePersonCount = 0;
-        int ongoingPersonCount = 0;
-        int incompletePersonCount = 0;
-
-        for (Person person : personList) {
-
-            // Gets the ENUM value
-            // TODO: Improve code quality
-            CompletionStatusTag completionStatusTag = person.getCompletionStatus();
-            CompletionStatusTag.CompletionStatus status = completionStatusTag.status;
+        requireNonNull(completionStatusCounter);
 
-            // Increment relevant count accordingly
-            if (status == CompletionStatusTag.CompletionStatus.COMPLETE) {
-                completePersonCount++;
-            } else if (status == CompletionStatusTag.CompletionStatus.INCOMPLETE) {
-                incompletePersonCount++;
-            } else {
-                ongoingPersonCount++;
-            }
-        }
+        PieChart.Data completeData = new PieChart.Data("Complete", 0);
+        PieChart.Data ongoingData = new PieChart.Data("Ongoing", 0);
+        PieChart.Data incompleteData = new PieChart.Data("Incomplete", 0);
+        completeData.pieValueProperty().bind(completionStatusCounter.countProperty(CompletionStatus.COMPLETE));
+        ongoingData.pieValueProperty().bind(completionStatusCounter.countProperty(CompletionStatus.ONGOING));
+        incompleteData.pieValueProperty().bind(completionStatusCounter.countProperty(CompletionStatus.INCOMPLETE));
 
         ObservableList<PieChart.Data> pieChartData =
-                FXCollections.observableArrayList(
-                        new PieChart.Data("Complete", completePersonCount),
-                        new PieChart.Data("Ongoing", ongoingPersonCount),
-                        new PieChart.Data("Incomplete", incompletePersonCount));
+                FXCollections.observableArrayList(completeData, ongoingData, incompleteData);
 
         chartDisplay.setTitle("Your Progress");
         chartDisplay.setData(pieChartData);
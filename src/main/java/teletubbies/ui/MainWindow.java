@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -199,8 +200,9 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        chartDisplay = new ChartDisplay(logic.getFilteredPersonList());
+        chartDisplay = new ChartDisplay(logic.getCompletionStatusCounter());
         chartDisplayPlaceholder.getChildren().add(chartDisplay.getRoot());
 
         commandBox = new CommandBox(this::executeCommand);
@@ -310,8 +312,6 @@ public class MainWindow extends UiPart<Stage> {
             commandResult.executeUiEffect(this);
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            chartDisplay.loadChart();
-
             UserProfile userProfile = logic.getUserProfile();
             profileDisplay.setText(userProfile.getRoleString());
 
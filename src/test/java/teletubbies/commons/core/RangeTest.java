@@ -0,0 +1,68 @@
+package teletubbies.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeTest {
+
+    @Test
+    public void constructor_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new Range(Set.of(0, 1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> Range.between(3, 2));
+    }
+
+    @Test
+    public void zeroBasedIterator_unorderedValues_iteratesInListOrder() {
+        Range range = new Range(Set.of(7, 2, 3, 9, 1, 8));
+        assertEquals(List.of(0, 1, 2, 6, 7, 8), toList(range));
+        assertEquals(6, range.size());
+        assertEquals("1-3,7-9", range.toString());
+    }
+
+    @Test
+    public void zeroBasedIterator_emptyRange_hasNoIndices() {
+        assertEquals(List.of(), toList(new Range(Set.of())));
+    }
+
+    @Test
+    public void isWithin() {
+        Range range = Range.between(2, 200_000);
+        assertEquals(199_999, range.size());
+        assertTrue(range.isWithin(200_000));
+        assertFalse(range.isWithin(199_999));
+        assertTrue(new Range(Set.of()).isWithin(0));
+    }
+
+    @Test
+    public void equals() {
+        Range range = Range.between(1, 3);
+
+        // same values -> returns true
+        assertEquals(range, new Range(Set.of(1, 2, 3)));
+        assertEquals(range.hashCode(), new Range(Set.of(1, 2, 3)).hashCode());
+
+        // different values -> returns false
+        assertNotEquals(range, new Range(Set.of(1, 3)));
+
+        // null -> returns false
+        assertNotEquals(null, range);
+    }
+
+    private static List<Integer> toList(Range range) {
+        List<Integer> indices = new ArrayList<>();
+        for (PrimitiveIterator.OfInt iterator = range.zeroBasedIterator(); iterator.hasNext();) {
+            indices.add(iterator.nextInt());
+        }
+        return indices;
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
 
 public class InvalidationListenerManagerTest {
@@ -65,4 +66,20 @@ public class InvalidationListenerManagerTest {
         invalidationListenerManager.callListeners(dummyObservable);
         assertEquals(countOfTimes - 1, counterContainer[0]);
     }
+
+    @Test
+    public void callListeners_listenerRemovesItself_otherListenersStillCalled() {
+        final int[] counterContainer = {0};
+        InvalidationListener selfRemovingListener = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observable) {
+                invalidationListenerManager.removeListener(this);
+            }
+        };
+        invalidationListenerManager.addListener(selfRemovingListener);
+        invalidationListenerManager.addListener(observable -> counterContainer[0]++);
+        invalidationListenerManager.callListeners(dummyObservable);
+        invalidationListenerManager.callListeners(dummyObservable);
+        assertEquals(2, counterContainer[0]);
+    }
 }
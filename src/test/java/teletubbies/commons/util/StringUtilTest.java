@@ -123,6 +123,32 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_negativeMaxEdits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isWithinEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // Same string, no edits allowed
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alice", 0));
+
+        // One substitution, insertion or deletion
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alicr", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "allice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alce", 1));
+        assertTrue(StringUtil.isWithinEditDistance("", "a", 1));
+
+        // Transposition counts as two edits
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alcie", 1));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alcie", 2));
+
+        // Lengths differ by more than the edits allowed
+        assertFalse(StringUtil.isWithinEditDistance("al", "alice", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
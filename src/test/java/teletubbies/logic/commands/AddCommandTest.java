@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.core.Range;
 import teletubbies.commons.core.UserProfile;
 import teletubbies.commons.exceptions.EarliestVersionException;
@@ -24,10 +25,15 @@ import teletubbies.commons.exceptions.IllegalValueException;
 import teletubbies.commons.exceptions.LatestVersionException;
 import teletubbies.logic.commands.exceptions.CommandException;
 import teletubbies.model.AddressBook;
+import teletubbies.model.CompletionStatusCounter;
 import teletubbies.model.Model;
+import teletubbies.model.PersonChangeListener;
 import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.model.ReadOnlyUserPrefs;
+import teletubbies.model.person.NameTokenIndex;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.PhoneIndex;
+import teletubbies.model.person.TagIndex;
 import teletubbies.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -140,6 +146,41 @@ public class AddCommandTest {
 
         }
 
+        @Override
+        public void addPersonChangeListener(PersonChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removePersonChangeListener(PersonChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -185,6 +226,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public CompletionStatusCounter getCompletionStatusCounter() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PhoneIndex getPhoneIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NameTokenIndex getNameTokenIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getPersonsFromRange(Range range) throws IllegalValueException {
             return null;
@@ -201,7 +262,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public AddressBook getExportAddressBook() {
+        public ReadOnlyAddressBook getExportAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -253,6 +314,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public HistoryFootprint getAddressBookHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canRedoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -26,7 +26,7 @@ public class ExportCommandTest {
         Set<Tag> tags = new HashSet<>();
         ExportCommand exportCommand = new ExportCommand(tags);
 
-        assertEquals(exportCommand.filterPersonList(model.getFilteredPersonList()),
+        assertEquals(exportCommand.filterPersonList(model),
                 TypicalPersons.getTypicalPersons());
     }
 
@@ -37,7 +37,7 @@ public class ExportCommandTest {
         tags.add(new Tag("friends"));
         ExportCommand exportCommand = new ExportCommand(tags);
 
-        assertEquals(exportCommand.filterPersonList(model.getFilteredPersonList()).size(), 3);
+        assertEquals(exportCommand.filterPersonList(model).size(), 3);
     }
 
     @Test
@@ -48,7 +48,7 @@ public class ExportCommandTest {
         tags.add(new Tag("owesMoney"));
         ExportCommand exportCommand = new ExportCommand(tags);
 
-        assertEquals(exportCommand.filterPersonList(model.getFilteredPersonList()).size(), 1);
+        assertEquals(exportCommand.filterPersonList(model).size(), 1);
     }
 
     @Test
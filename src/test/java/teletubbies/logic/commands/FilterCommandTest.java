@@ -4,14 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import teletubbies.commons.core.UserProfile.Role;
 import teletubbies.model.Model;
 import teletubbies.model.ModelManager;
 import teletubbies.model.UserPrefs;
+import teletubbies.model.person.Person;
 import teletubbies.model.person.PersonHasTagsPredicate;
+import teletubbies.model.person.PhoneStartsWithPredicate;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
 import teletubbies.model.tag.Tag;
+import teletubbies.testutil.PersonBuilder;
 import teletubbies.testutil.TypicalPersons;
 
 class FilterCommandTest {
@@ -43,4 +49,31 @@ class FilterCommandTest {
         assertEquals(model.getFilteredPersonList().size(), 3);
     }
 
+    @Test
+    void execute_tagAndPhonePrefix_success() {
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+
+        // Alice, Benson and Daniel are friends, only Alice and Benson have numbers starting with 9
+        FilterCommand command = new FilterCommand(
+                new PersonHasTagsPredicate(new HashSet<>(List.of(new Tag("friends")))),
+                Optional.of(new PhoneStartsWithPredicate("9")));
+
+        command.execute(model);
+        assertEquals(model.getFilteredPersonList().size(), 2);
+    }
+
+    @Test
+    void execute_completionStatusTag_updatesWithEdits() {
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        Tag complete = new Tag("CompletionStatus", CompletionStatus.COMPLETE.toString(), new Role[]{}, true);
+
+        FilterCommand command = new FilterCommand(new PersonHasTagsPredicate(new HashSet<>(List.of(complete))));
+        command.execute(model);
+        assertEquals(model.getFilteredPersonList().size(), 0);
+
+        Person alice = TypicalPersons.ALICE;
+        model.setPerson(alice, new PersonBuilder(alice).withCompletionStatus(CompletionStatus.COMPLETE).build());
+        assertEquals(model.getFilteredPersonList().size(), 1);
+    }
+
 }
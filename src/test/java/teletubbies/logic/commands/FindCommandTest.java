@@ -19,6 +19,7 @@ import teletubbies.model.Model;
 import teletubbies.model.ModelManager;
 import teletubbies.model.UserPrefs;
 import teletubbies.model.person.NameContainsKeywordsPredicate;
+import teletubbies.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +75,15 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personRenamedAfterFind_filteredListUpdated() {
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"));
+        command.execute(model);
+
+        model.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Tan").build());
+        assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -14,14 +14,19 @@ import org.junit.jupiter.api.Test;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.core.Range;
 import teletubbies.commons.core.UserProfile;
 import teletubbies.logic.commands.exceptions.CommandException;
-import teletubbies.model.AddressBook;
+import teletubbies.model.CompletionStatusCounter;
 import teletubbies.model.Model;
+import teletubbies.model.PersonChangeListener;
 import teletubbies.model.ReadOnlyAddressBook;
 import teletubbies.model.ReadOnlyUserPrefs;
+import teletubbies.model.person.NameTokenIndex;
 import teletubbies.model.person.Person;
+import teletubbies.model.person.PhoneIndex;
+import teletubbies.model.person.TagIndex;
 
 
 public class HistoryCommandTest {
@@ -112,6 +117,41 @@ public class HistoryCommandTest {
 
         }
 
+        @Override
+        public void addPersonChangeListener(PersonChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removePersonChangeListener(PersonChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getAddressBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +197,26 @@ public class HistoryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public CompletionStatusCounter getCompletionStatusCounter() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PhoneIndex getPhoneIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NameTokenIndex getNameTokenIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Person> getPersonsFromRange(Range range) {
             throw new AssertionError("This method should not be called.");
@@ -173,7 +233,7 @@ public class HistoryCommandTest {
         }
 
         @Override
-        public AddressBook getExportAddressBook() {
+        public ReadOnlyAddressBook getExportAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -230,6 +290,11 @@ public class HistoryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public HistoryFootprint getAddressBookHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canRedoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -69,4 +69,25 @@ class RemoveTagCommandTest {
         assertCommandFailure(command, model, TagUtils.noPermissionsMessage("friends"));
     }
 
+    @Test
+    void execute_telemarketerWithoutPermissionForOnePerson_noPersonsEdited() throws UserRoleSetException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUserProfile(telemarketerProfile);
+
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), userPrefs);
+        Person editedPerson = new Person(BENSON.getUuid(), BENSON.getName(), BENSON.getPhone(),
+                BENSON.getEmail(), BENSON.getAddress(), BENSON.getCompletionStatus(), BENSON.getRemark(),
+                new HashSet<>(List.of(new Tag("friends", "", true))));
+        model.setPerson(BENSON, editedPerson);
+        model.commitAddressBook();
+
+        // ALICE holds an editable friends tag, but BENSON's may only be edited by supervisors
+        RemoveTagCommand command = new RemoveTagCommand(
+                new Range(new HashSet<>(List.of(1, 2))),
+                "friends"
+        );
+
+        assertCommandFailure(command, model, TagUtils.noPermissionsMessage("friends"));
+        assertEquals(ALICE, model.getFilteredPersonList().get(0));
+    }
 }
@@ -17,6 +17,8 @@ import teletubbies.model.ModelManager;
 import teletubbies.model.UserPrefs;
 import teletubbies.model.person.Person;
 import teletubbies.model.tag.Tag;
+import teletubbies.testutil.Assert;
+import teletubbies.testutil.PersonBuilder;
 import teletubbies.testutil.TypicalPersons;
 
 class TagCommandTest {
@@ -46,4 +48,29 @@ class TagCommandTest {
         assertEquals(newBenson, correctBenson);
     }
 
+    @Test
+    void execute_exceptionWhileEditing_transactionRolledBack() {
+        boolean[] shouldThrow = {true};
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), userPrefs) {
+            @Override
+            public void setPerson(Person target, Person editedPerson) {
+                if (shouldThrow[0]) {
+                    shouldThrow[0] = false;
+                    throw new IllegalArgumentException("dummy exception");
+                }
+                super.setPerson(target, editedPerson);
+            }
+        };
+        TagCommand command = new TagCommand(new Range(new HashSet<>(List.of(1, 2))), "important", "", false);
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> command.execute(model));
+
+        // Later edits are applied at once rather than staged in the abandoned transaction.
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("edited").build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(editedBenson, model.getFilteredPersonList().get(1));
+        model.beginTransaction();
+        model.rollbackTransaction();
+    }
+
 }
@@ -0,0 +1,37 @@
+package teletubbies.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static teletubbies.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.model.Model;
+import teletubbies.model.ModelManager;
+import teletubbies.model.UserPrefs;
+
+public class UndoStatsCommandTest {
+
+    @Test
+    public void execute_budgetExceeded_reportsKeptVersions() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setHistoryBudget(new HistoryBudget(3, 0));
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        for (int i = 0; i < 5; i++) {
+            model.deletePerson(model.getFilteredPersonList().get(0));
+            model.commitAddressBook();
+        }
+
+        String feedback = new UndoStatsCommand().execute(model).getFeedbackToUser();
+        long estimatedBytes = model.getAddressBookHistoryFootprint().getEstimatedBytes();
+        assertEquals(String.format(UndoStatsCommand.MESSAGE_SUCCESS, 3, UndoStatsCommand.formatBytes(estimatedBytes),
+                "at most 3 versions, at most " + UndoStatsCommand.MESSAGE_UNLIMITED), feedback);
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("512 B", UndoStatsCommand.formatBytes(512));
+        assertEquals("1.5 KB", UndoStatsCommand.formatBytes(1536));
+        assertEquals("64.0 MB", UndoStatsCommand.formatBytes(64L * 1024 * 1024));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,8 @@ import teletubbies.logic.commands.Command;
 import teletubbies.logic.commands.FilterCommand;
 import teletubbies.logic.parser.exceptions.ParseException;
 import teletubbies.model.person.PersonHasTagsPredicate;
+import teletubbies.model.person.Phone;
+import teletubbies.model.person.PhoneStartsWithPredicate;
 import teletubbies.model.tag.Tag;
 
 class FilterCommandParserTest {
@@ -41,6 +44,20 @@ class FilterCommandParserTest {
         assertEquals(new FilterCommandParser().parse(userInput), expectedCommand);
     }
 
+    @Test
+    void parse_phonePrefix_success() throws ParseException {
+        FilterCommand expectedCommand = new FilterCommand(new PersonHasTagsPredicate(Set.of()),
+                Optional.of(new PhoneStartsWithPredicate("6512")));
+
+        assertEquals(new FilterCommandParser().parse(" -p 6512"), expectedCommand);
+    }
+
+    @Test
+    void parse_invalidPhonePrefix_throwsParseException() {
+        CommandParserTestUtil.assertParseFailure(new FilterCommandParser(), " -p 65a",
+                Phone.PREFIX_MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     void parse_reservedTagName_success() {
         FilterCommandParser parser = new FilterCommandParser();
@@ -33,6 +33,7 @@ import teletubbies.logic.commands.ListCommand;
 import teletubbies.logic.commands.MergeCommand;
 import teletubbies.logic.commands.ProfileCommand;
 import teletubbies.logic.commands.RemarkCommand;
+import teletubbies.logic.commands.UndoStatsCommand;
 import teletubbies.logic.parser.exceptions.ParseException;
 import teletubbies.model.person.NameContainsKeywordsPredicate;
 import teletubbies.model.person.Person;
@@ -166,6 +167,11 @@ public class InputParserTest {
         assertEquals(new HistoryCommand(), command);
     }
 
+    @Test
+    public void parseCommand_undoStats() throws Exception {
+        assertTrue(parser.parseCommand(UndoStatsCommand.COMMAND_WORD) instanceof UndoStatsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -7,16 +7,20 @@ import static teletubbies.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static teletubbies.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static teletubbies.testutil.TypicalPersons.ALICE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import teletubbies.model.person.Person;
 import teletubbies.model.person.exceptions.DuplicatePersonException;
@@ -106,6 +110,61 @@ public class AddressBookTest {
         assertFalse(checker.getValue());
     }
 
+    @Test
+    public void addPersonChangeListener_addReplaceRemove_reportsNumberedEvents() {
+        List<PersonChangeEvent> events = new ArrayList<>();
+        addressBook.addPersonChangeListener(events::add);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        assertEquals(List.of(new PersonChangeEvent(1, 0, List.of(), List.of(ALICE)),
+                new PersonChangeEvent(2, 0, List.of(ALICE), List.of(editedAlice)),
+                new PersonChangeEvent(3, 0, List.of(editedAlice), List.of())), events);
+        assertEquals(List.of(PersonChangeEvent.Type.ADD, PersonChangeEvent.Type.REPLACE,
+                PersonChangeEvent.Type.REMOVE), events.stream().map(PersonChangeEvent::getType)
+                .collect(Collectors.toList()));
+        assertEquals(3, addressBook.getVersion());
+    }
+
+    @Test
+    public void removePersonChangeListener_listenerRemoved_versionStillIncreases() {
+        List<PersonChangeEvent> events = new ArrayList<>();
+        PersonChangeListener listener = events::add;
+        addressBook.addPersonChangeListener(listener);
+        addressBook.removePersonChangeListener(listener);
+        addressBook.addPerson(ALICE);
+        assertTrue(events.isEmpty());
+        assertEquals(1, addressBook.getVersion());
+    }
+
+    @Test
+    public void toPersonChangeEvent_sortedPersons_replaysOnPersonsBeforeSorting() {
+        List<Person> original = List.of(TypicalPersons.CARL, ALICE, TypicalPersons.DANIEL, TypicalPersons.BENSON);
+        ObservableList<Person> persons = FXCollections.observableArrayList(original);
+        List<PersonChangeEvent> events = new ArrayList<>();
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasPermutated());
+                events.add(AddressBook.toPersonChangeEvent(events.size() + 1, change));
+            }
+        });
+
+        FXCollections.sort(persons, Comparator.comparing(person -> person.getName().fullName));
+
+        // Replaying the events as the journal does needs the removed persons in their order before sorting.
+        List<Person> replayed = new ArrayList<>(original);
+        for (PersonChangeEvent event : events) {
+            List<Person> range = replayed.subList(event.getFrom(), event.getFrom() + event.getRemoved().size());
+            assertEquals(event.getRemoved(), range);
+            range.clear();
+            range.addAll(event.getAdded());
+        }
+        assertEquals(persons, replayed);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,52 @@
+package teletubbies.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import teletubbies.model.person.Person;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.testutil.PersonBuilder;
+
+public class CompletionStatusCounterTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+    private final CompletionStatusCounter counter = new CompletionStatusCounter(persons);
+
+    @Test
+    public void constructor_countsExistingPersons() {
+        assertEquals(2, counter.getCount(CompletionStatus.INCOMPLETE));
+        assertEquals(0, counter.getCount(CompletionStatus.ONGOING));
+        assertEquals(0, counter.getCount(CompletionStatus.COMPLETE));
+    }
+
+    @Test
+    public void listChanges_updateCounts() {
+        persons.add(new PersonBuilder(CARL).withCompletionStatus(CompletionStatus.ONGOING).build());
+        persons.set(0, new PersonBuilder(ALICE).withCompletionStatus(CompletionStatus.COMPLETE).build());
+        persons.remove(1);
+
+        assertEquals(0, counter.getCount(CompletionStatus.INCOMPLETE));
+        assertEquals(1, counter.getCount(CompletionStatus.ONGOING));
+        assertEquals(1, counter.getCount(CompletionStatus.COMPLETE));
+    }
+
+    @Test
+    public void listChanges_sameStatus_doesNotNotify() {
+        int[] notifications = new int[1];
+        counter.countProperty(CompletionStatus.INCOMPLETE).addListener((observable, oldValue, newValue) ->
+                notifications[0]++);
+
+        persons.set(0, new PersonBuilder(ALICE).withRemark("Called twice").build());
+        persons.setAll(BENSON, ALICE);
+        assertEquals(0, notifications[0]);
+
+        persons.remove(ALICE);
+        assertEquals(1, notifications[0]);
+    }
+}
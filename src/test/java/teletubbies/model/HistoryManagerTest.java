@@ -3,6 +3,7 @@ package teletubbies.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,6 +12,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import teletubbies.commons.core.HistoryBudget;
+import teletubbies.commons.core.HistoryFootprint;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.LatestVersionException;
 import teletubbies.logic.commands.CommandTestUtil;
@@ -159,6 +162,70 @@ public class HistoryManagerTest {
         assertEquals(historyOfStrings, historyManager.historyList());
     }
 
+    @Test
+    public void commitAndPush_overVersionBudget_evictsOldestStates() throws EarliestVersionException {
+        HistoryManager<String> historyManager = new HistoryManager<>(List.of("a"));
+        historyManager.setBudget(new HistoryBudget(2, 0), String::length);
+        historyManager = historyManager.commitAndPush("b").commitAndPush("c");
+
+        assertEquals(List.of("b", "c"), historyManager.historyList());
+        assertEquals(new HistoryFootprint(2, 2, new HistoryBudget(2, 0)), historyManager.getFootprint());
+        historyManager.undo();
+        assertFalse(historyManager.isUndoable());
+    }
+
+    @Test
+    public void addOldest_evictedStates_restoresStatesBeforeCurrent() throws EarliestVersionException {
+        HistoryManager<String> historyManager = new HistoryManager<>(List.of("a"));
+        List<String> evictedStates = new ArrayList<>();
+        historyManager.setEvictionListener(evictedStates::add);
+        historyManager.setBudget(new HistoryBudget(2, 0), String::length);
+        historyManager.commitAndPush("b").commitAndPush("c");
+        assertEquals(List.of("a"), evictedStates);
+
+        historyManager.undo();
+        historyManager.addOldest("a");
+        assertEquals(List.of("a", "b"), historyManager.historyList());
+        assertTrue(historyManager.isRedoable());
+        historyManager.undo();
+        assertEquals("a", historyManager.peek());
+    }
+
+    @Test
+    public void commitAndPush_overByteBudget_keepsCurrentState() {
+        HistoryManager<String> historyManager = new HistoryManager<>(List.of("aa"));
+        historyManager.setBudget(new HistoryBudget(0, 3), String::length);
+        historyManager = historyManager.commitAndPush("b");
+        assertEquals(List.of("aa", "b"), historyManager.historyList());
+
+        historyManager = historyManager.commitAndPush("cccc");
+        assertEquals(List.of("cccc"), historyManager.historyList());
+        assertEquals(4, historyManager.getFootprint().getEstimatedBytes());
+    }
+
+    @Test
+    public void commitAndPush_wrapsAroundBuffer_keepsLatestStatesInOrder()
+            throws EarliestVersionException, LatestVersionException {
+        HistoryManager<String> historyManager = new HistoryManager<>();
+        historyManager.setBudget(new HistoryBudget(5, 0), String::length);
+        for (int i = 0; i < 40; i++) {
+            assertSame(historyManager, historyManager.commitAndPush(String.valueOf(i)));
+        }
+        assertEquals(List.of("35", "36", "37", "38", "39"), historyManager.historyList());
+
+        // branching off an earlier state discards the states after it
+        historyManager.undo();
+        historyManager.undo();
+        historyManager.commitAndPush("x");
+        assertEquals(List.of("35", "36", "37", "x"), historyManager.historyList());
+        assertFalse(historyManager.isRedoable());
+        assertEquals(new HistoryFootprint(4, 7, new HistoryBudget(5, 0)), historyManager.getFootprint());
+
+        historyManager.undo();
+        historyManager.redo();
+        assertEquals("x", historyManager.peek());
+    }
+
     @Test
     public void equalsTest() throws EarliestVersionException, LatestVersionException {
         HistoryManager<String> historyManager = new HistoryManager<>(historyOfStrings);
@@ -18,11 +18,16 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import teletubbies.commons.core.GuiSettings;
+import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.logic.commands.CommandTestUtil;
 import teletubbies.model.person.NameContainsKeywordsPredicate;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.exceptions.DuplicatePersonException;
 import teletubbies.testutil.AddressBookBuilder;
 import teletubbies.testutil.Assert;
+import teletubbies.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -99,6 +104,91 @@ public class ModelManagerTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateExportList_confirmExport_leavesAddressBookAndHistoryUnchanged() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateExportList(List.of(BENSON));
+        assertTrue(modelManager.isAwaitingExportConfirmation());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(addressBook, modelManager.getAddressBook());
+
+        assertEquals(List.of(BENSON), modelManager.getExportAddressBook().getPersonList());
+        assertFalse(modelManager.isAwaitingExportConfirmation());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_thenCommit_addsOneVersion() throws EarliestVersionException {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("merged").build();
+
+        modelManager.mergeAddressBook(new AddressBookBuilder().withPerson(BENSON).withPerson(editedAlice).build());
+        modelManager.commitAddressBook();
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getAddressBook().getPersonList());
+
+        modelManager.undoAddressBook();
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitTransaction_severalEdits_appliesOneChangeAsOneVersion() throws EarliestVersionException {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("edited").build();
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("edited").build();
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(addressBook, modelManager.getAddressBook());
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(editedAlice, editedBenson), modelManager.getAddressBook().getPersonList());
+        assertEquals(1, changeCount[0]);
+        modelManager.undoAddressBook();
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void rollbackTransaction_stagedEdits_leavesAddressBookUnchanged() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withRemark("edited").build());
+        assertThrows(IllegalStateException.class, modelManager::beginTransaction);
+        modelManager.rollbackTransaction();
+
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+        assertThrows(IllegalStateException.class, modelManager::commitTransaction);
+    }
+
+    @Test
+    public void commitTransaction_editsCannotBeApplied_transactionEnded() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, new PersonBuilder(BENSON).build());
+        assertThrows(DuplicatePersonException.class, modelManager::commitTransaction);
+
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+        // Edits made after the failed commit are applied at once.
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("edited").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void getFullHistoryList_addInput_success() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
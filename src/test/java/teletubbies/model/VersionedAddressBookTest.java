@@ -8,14 +8,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static teletubbies.testutil.TypicalPersons.AMY;
 import static teletubbies.testutil.TypicalPersons.BOB;
 import static teletubbies.testutil.TypicalPersons.CARL;
+import static teletubbies.testutil.TypicalPersons.NO_TAGS_AMY;
+import static teletubbies.testutil.TypicalPersons.NO_TAGS_BOB;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import teletubbies.commons.core.HistoryBudget;
 import teletubbies.commons.exceptions.EarliestVersionException;
 import teletubbies.commons.exceptions.LatestVersionException;
 import teletubbies.model.VersionedAddressBook.EmptyAddressBookStateListException;
+import teletubbies.model.person.Person;
+import teletubbies.model.person.PersonListChange;
 import teletubbies.testutil.AddressBookBuilder;
 
 public class VersionedAddressBookTest {
@@ -213,6 +222,92 @@ public class VersionedAddressBookTest {
         //@@author: sijie123
     }
 
+    @Test
+    public void undoRedo_personLevelChanges_restoresStates()
+            throws EmptyAddressBookStateListException, EarliestVersionException, LatestVersionException {
+        VersionedAddressBook versionedAddressBook = makeVersionedAddressBook(addressBookWithAmyAndBob);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commitCurrentStateAndSave();
+        versionedAddressBook.setPerson(AMY, NO_TAGS_AMY);
+        versionedAddressBook.commitCurrentStateAndSave();
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commitCurrentStateAndSave();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                List.of(addressBookWithAmyAndBob, addressBookWithAmyBobAndCarl,
+                        new AddressBookBuilder().withPerson(NO_TAGS_AMY).withPerson(BOB).withPerson(CARL).build()),
+                new AddressBookBuilder().withPerson(NO_TAGS_AMY).withPerson(CARL).build(),
+                List.of());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges()
+            throws EmptyAddressBookStateListException, EarliestVersionException, LatestVersionException {
+        VersionedAddressBook versionedAddressBook =
+                makeVersionedAddressBook(addressBookWithAmy, addressBookWithAmyAndBob);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.removePerson(AMY);
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmyAndBob, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_singleEdit_replacesOnlyEditedPerson()
+            throws EmptyAddressBookStateListException, EarliestVersionException {
+        VersionedAddressBook versionedAddressBook = makeVersionedAddressBook(addressBookWithAmyBobAndCarl);
+        versionedAddressBook.setPerson(BOB, NO_TAGS_BOB);
+        versionedAddressBook.commitCurrentStateAndSave();
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change);
+            }
+        });
+        versionedAddressBook.undo();
+
+        assertEquals(addressBookWithAmyBobAndCarl, new AddressBook(versionedAddressBook));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void undo_beyondBudgetWithSpillStore_restoresSpilledStates()
+            throws EmptyAddressBookStateListException, EarliestVersionException, LatestVersionException {
+        VersionedAddressBook versionedAddressBook = makeVersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.setHistoryBudget(new HistoryBudget(2, 0));
+        versionedAddressBook.setSpillStore(new InMemorySpillStore());
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commitCurrentStateAndSave();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commitCurrentStateAndSave();
+        versionedAddressBook.setPerson(AMY, NO_TAGS_AMY);
+        versionedAddressBook.commitCurrentStateAndSave();
+        assertEquals(2, versionedAddressBook.getHistoryFootprint().getVersionCount());
+
+        undoVersionedAddressBookNTimes(versionedAddressBook, 2);
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmyAndBob, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_beyondBudgetWithoutSpillStore_throwsEarliestVersionException()
+            throws EmptyAddressBookStateListException, EarliestVersionException {
+        VersionedAddressBook versionedAddressBook =
+                makeVersionedAddressBook(emptyAddressBook, addressBookWithAmy, addressBookWithBob);
+        versionedAddressBook.setHistoryBudget(new HistoryBudget(2, 0));
+        versionedAddressBook.undo();
+        assertThrows(EarliestVersionException.class, versionedAddressBook::undo);
+    }
+
     @Test
     public void redo_single_throwsLatestVersionException() throws EmptyAddressBookStateListException {
         VersionedAddressBook versionedAddressBook = makeVersionedAddressBook(addressBookWithBob);
@@ -325,4 +420,30 @@ public class VersionedAddressBookTest {
         return lowest + (int) (Math.random() * (highest - lowest));
     }
 
+    /**
+     * A {@code VersionSpillStore} that keeps the spilled versions in memory.
+     */
+    private static class InMemorySpillStore implements VersionSpillStore {
+        private final Deque<List<PersonListChange>> versions = new ArrayDeque<>();
+
+        @Override
+        public void push(List<PersonListChange> changes) {
+            versions.push(changes);
+        }
+
+        @Override
+        public List<PersonListChange> pop() {
+            return versions.pop();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return versions.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            versions.clear();
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package teletubbies.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.CARL;
+import static teletubbies.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import teletubbies.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final NameTokenIndex nameTokenIndex = uniquePersonList.getNameTokenIndex();
+
+    @Test
+    public void getUuidsMatchingAny_multipleKeywords_mergesPostings() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        // Benson Meier and Daniel Meier share a word, Carl Kurz matches another keyword
+        assertEquals(Set.of(BENSON.getUuid(), DANIEL.getUuid(), CARL.getUuid()),
+                nameTokenIndex.getUuidsMatchingAny(List.of("MEIER", "kurz")));
+    }
+
+    @Test
+    public void getUuidsMatchingAny_partOfWord_matches() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        assertEquals(Set.of(ALICE.getUuid()), nameTokenIndex.getUuidsMatchingAny(List.of("pau")));
+        assertTrue(nameTokenIndex.getUuidsMatchingAny(List.of("alice pauline")).isEmpty());
+    }
+
+    @Test
+    public void getUuidsMatchingAnyApproximately_prefixesAndTypos_match() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        // prefix of Benson
+        assertEquals(Set.of(BENSON.getUuid()), nameTokenIndex.getUuidsMatchingAnyApproximately(List.of("Ben")));
+        // one substitution in Carl, one deletion in Meier
+        assertEquals(Set.of(CARL.getUuid(), BENSON.getUuid(), DANIEL.getUuid()),
+                nameTokenIndex.getUuidsMatchingAnyApproximately(List.of("karl", "Meir")));
+        // too many mistakes for a short word
+        assertTrue(nameTokenIndex.getUuidsMatchingAnyApproximately(List.of("kalr")).isEmpty());
+        // part of a word that is not a prefix is not matched approximately
+        assertTrue(nameTokenIndex.getUuidsMatchingAnyApproximately(List.of("ulin")).isEmpty());
+    }
+
+    @Test
+    public void getUuidsMatchingAny_afterEditAndRemove_reflectsChanges() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        uniquePersonList.remove(BENSON);
+
+        assertTrue(nameTokenIndex.getUuidsMatchingAny(List.of("pauline", "benson")).isEmpty());
+        assertEquals(Set.of(ALICE.getUuid()), nameTokenIndex.getUuidsMatchingAny(List.of("tan")));
+        assertEquals(Set.of(ALICE.getUuid()), nameTokenIndex.getUuidsMatchingAnyApproximately(List.of("alicai")));
+    }
+}
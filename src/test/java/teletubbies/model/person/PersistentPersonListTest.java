@@ -0,0 +1,82 @@
+package teletubbies.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.CARL;
+import static teletubbies.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void of_typicalPersons_sameOrder() {
+        PersistentPersonList persons = PersistentPersonList.of(getTypicalPersons());
+        assertEquals(getTypicalPersons(), persons.asList());
+        assertEquals(getTypicalPersons().size(), persons.size());
+        assertEquals(getTypicalPersons().get(3), persons.get(3));
+    }
+
+    @Test
+    public void modifications_leaveOriginalUnchanged() {
+        PersistentPersonList original = PersistentPersonList.of(List.of(ALICE, BENSON));
+
+        PersistentPersonList inserted = original.insert(1, CARL);
+        PersistentPersonList replaced = original.set(0, CARL);
+        PersistentPersonList removed = original.remove(0);
+
+        assertEquals(List.of(ALICE, BENSON), original.asList());
+        assertEquals(List.of(ALICE, CARL, BENSON), inserted.asList());
+        assertEquals(List.of(CARL, BENSON), replaced.asList());
+        assertEquals(List.of(BENSON), removed.asList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentPersonList persons = PersistentPersonList.of(List.of(ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> persons.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> persons.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentPersonList.empty().get(0));
+    }
+
+    @Test
+    public void randomModifications_matchArrayList() {
+        Random random = new Random(2103);
+        List<Person> typicalPersons = getTypicalPersons();
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList actual = PersistentPersonList.empty();
+        List<List<Person>> expectedVersions = new ArrayList<>();
+        List<PersistentPersonList> actualVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            Person person = typicalPersons.get(random.nextInt(typicalPersons.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                actual = actual.insert(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                actual = actual.set(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            expectedVersions.add(new ArrayList<>(expected));
+            actualVersions.add(actual);
+        }
+
+        // every earlier version is still intact
+        for (int i = 0; i < expectedVersions.size(); i++) {
+            assertEquals(expectedVersions.get(i), actualVersions.get(i).asList());
+        }
+    }
+}
@@ -14,6 +14,9 @@ import static teletubbies.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
 import teletubbies.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -24,6 +27,20 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void hasTag() {
+        // tag name only -> matches any value
+        assertTrue(BOB.hasTag(new Tag(VALID_TAG_HUSBAND)));
+
+        // missing tag -> returns false
+        assertFalse(ALICE.hasTag(new Tag(VALID_TAG_HUSBAND)));
+
+        // completion status is matched by name and value
+        Person completedAlice = new PersonBuilder(ALICE).withCompletionStatus(CompletionStatus.COMPLETE).build();
+        assertTrue(completedAlice.hasTag(new Tag("CompletionStatus", "COMPLETE", new Role[]{}, true)));
+        assertFalse(completedAlice.hasTag(new Tag("CompletionStatus", "ONGOING", new Role[]{}, true)));
+    }
+
     @Test
     public void isSameUuid() {
         // same object -> returns true
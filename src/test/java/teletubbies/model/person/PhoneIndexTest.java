@@ -0,0 +1,51 @@
+package teletubbies.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.CARL;
+import static teletubbies.testutil.TypicalPersons.ELLE;
+import static teletubbies.testutil.TypicalPersons.FIONA;
+import static teletubbies.testutil.TypicalPersons.GEORGE;
+import static teletubbies.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import teletubbies.testutil.PersonBuilder;
+
+public class PhoneIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PhoneIndex phoneIndex = uniquePersonList.getPhoneIndex();
+
+    @Test
+    public void get_afterPhoneChange_findsPersonByNewPhone() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        assertEquals(Optional.of(ALICE), phoneIndex.get(ALICE.getPhone()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("61234567").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), phoneIndex.get(ALICE.getPhone()));
+        assertEquals(Optional.of(editedAlice), phoneIndex.get(new Phone("61234567")));
+    }
+
+    @Test
+    public void getPersonsWithPrefix_areaCode_returnsMatchingPersonsInPhoneOrder() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        // 9482224, 9482427 and 9482442
+        assertEquals(List.of(ELLE, FIONA, GEORGE), phoneIndex.getPersonsWithPrefix("948"));
+        assertEquals(List.of(CARL), phoneIndex.getPersonsWithPrefix("95352563"));
+        assertTrue(phoneIndex.getPersonsWithPrefix("6512").isEmpty());
+        assertEquals(getTypicalPersons().size(), phoneIndex.getPersonsWithPrefix("").size());
+    }
+
+    @Test
+    public void getPersonsWithPrefix_prefixEndingInNine_doesNotOverrun() {
+        uniquePersonList.add(new PersonBuilder(ALICE).withPhone("899").build());
+        uniquePersonList.add(new PersonBuilder(CARL).withPhone("900").build());
+        assertEquals(1, phoneIndex.getPersonsWithPrefix("89").size());
+    }
+}
@@ -0,0 +1,68 @@
+package teletubbies.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+import teletubbies.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final TagIndex tagIndex = uniquePersonList.getTagIndex();
+
+    @Test
+    public void getUuidsHoldingAll_tagNamesOnly_returnsPersonsHoldingAllTags() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE.getUuid(), BENSON.getUuid()), tagIndex.getUuidsHoldingAll(List.of(FRIENDS)));
+        assertEquals(Set.of(BENSON.getUuid()), tagIndex.getUuidsHoldingAll(List.of(FRIENDS, OWES_MONEY)));
+        assertTrue(tagIndex.getUuidsHoldingAll(List.of(new Tag("unknown"))).isEmpty());
+    }
+
+    @Test
+    public void getUuidsHoldingAll_tagWithValue_matchesValueExactly() {
+        uniquePersonList.add(withAssignee(ALICE, "bob"));
+        uniquePersonList.add(withAssignee(CARL, "Bob"));
+
+        assertEquals(Set.of(ALICE.getUuid()),
+                tagIndex.getUuidsHoldingAll(List.of(new Tag("Assignee", "bob", false))));
+        assertEquals(Set.of(ALICE.getUuid(), CARL.getUuid()),
+                tagIndex.getUuidsHoldingAll(List.of(new Tag("Assignee"))));
+    }
+
+    @Test
+    public void holds_completionStatus_followsEdits() {
+        Tag complete = new Tag("CompletionStatus", CompletionStatus.COMPLETE.toString(), new Role[]{}, true);
+        uniquePersonList.add(ALICE);
+        assertFalse(tagIndex.holds(ALICE.getUuid(), complete));
+
+        Person completedAlice = new PersonBuilder(ALICE).withCompletionStatus(CompletionStatus.COMPLETE).build();
+        uniquePersonList.setPerson(ALICE, completedAlice);
+        assertTrue(tagIndex.holds(ALICE.getUuid(), complete));
+
+        uniquePersonList.remove(completedAlice);
+        assertFalse(tagIndex.holds(ALICE.getUuid(), complete));
+        assertFalse(tagIndex.holds(ALICE.getUuid(), FRIENDS));
+    }
+
+    private static Person withAssignee(Person person, String assignee) {
+        return new Person(person.getUuid(), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getCompletionStatus(), person.getRemark(),
+                Set.of(new Tag("Assignee", assignee, false)));
+    }
+}
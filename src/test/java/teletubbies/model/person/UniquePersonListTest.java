@@ -8,10 +8,14 @@ import static teletubbies.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static teletubbies.testutil.Assert.assertThrows;
 import static teletubbies.testutil.TypicalPersons.ALICE;
 import static teletubbies.testutil.TypicalPersons.BOB;
+import static teletubbies.testutil.TypicalPersons.CARL;
+import static teletubbies.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +51,25 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.containsName(editedAlice));
     }
 
+    @Test
+    public void containsPhoneNumber_personWithSamePhoneInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniquePersonList.containsPhoneNumber(editedBob));
+        assertFalse(uniquePersonList.containsPhoneNumber(BOB));
+    }
+
+    @Test
+    public void containsName_afterRemovingOneOfTwoPersonsWithSameName_returnsTrue() {
+        Person bobNamedAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(bobNamedAlice);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE));
+        uniquePersonList.remove(bobNamedAlice);
+        assertFalse(uniquePersonList.containsName(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +125,31 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.containsUuid(ALICE));
+        assertFalse(uniquePersonList.containsPhoneNumber(ALICE));
+        assertFalse(uniquePersonList.containsName(ALICE));
+        assertTrue(uniquePersonList.containsUuid(BOB));
+        assertTrue(uniquePersonList.containsPhoneNumber(BOB));
+        assertTrue(uniquePersonList.containsName(BOB));
+    }
+
+    @Test
+    public void setPerson_afterRemovingEarlierPerson_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(BOB, editedCarl));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -119,12 +167,41 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameUuidButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.containsUuid(ALICE));
+        assertFalse(uniquePersonList.containsPhoneNumber(ALICE));
+    }
+
+    @Test
+    public void indexOf_afterRemovals_returnsCurrentPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        uniquePersonList.remove(BOB);
+        assertEquals(2, uniquePersonList.indexOf(DANIEL));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(0, uniquePersonList.indexOf(CARL));
+        assertEquals(1, uniquePersonList.indexOf(DANIEL));
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+    }
+
+    @Test
+    public void indexOf_personWithSameUuidButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
     }
 
     @Test
@@ -162,6 +239,95 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePhoneNumbers_reportsConflictAndKeepsContents() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithDuplicatePhones = Arrays.asList(ALICE, bobWithAlicePhone);
+        String expectedMessage = new DuplicatePersonException(ALICE, bobWithAlicePhone).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, ()
+            -> uniquePersonList.setPersons(listWithDuplicatePhones));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.containsUuid(BOB));
+    }
+
+    @Test
+    public void replaceRange_changeAndRevert_restoresListAndIndexes() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        PersonListChange change = new PersonListChange(1, List.of(BOB, CARL), List.of(CARL));
+
+        change.applyTo(uniquePersonList);
+        assertEquals(List.of(ALICE, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.containsPhoneNumber(BOB));
+        assertEquals(2, uniquePersonList.indexOf(DANIEL));
+
+        change.revertOn(uniquePersonList);
+        assertEquals(List.of(ALICE, BOB, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.containsPhoneNumber(BOB));
+        assertEquals(3, uniquePersonList.indexOf(DANIEL));
+        assertEquals(1, uniquePersonList.getPhoneIndex().getPersonsWithPrefix(BOB.getPhone().value).size());
+    }
+
+    @Test
+    public void mergePersons_updatesAndNewPersons_replacesByUuidAndAppends() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedBob = new PersonBuilder(BOB).withRemark("merged").build();
+        // swapping phone numbers between two merged persons is allowed
+        Person aliceWithCarlPhone = new PersonBuilder(ALICE).withPhone(CARL.getPhone().value).build();
+        Person carlWithAlicePhone = new PersonBuilder(CARL).withPhone(ALICE.getPhone().value).build();
+
+        uniquePersonList.mergePersons(List.of(aliceWithCarlPhone, DANIEL, editedBob, carlWithAlicePhone));
+
+        assertEquals(List.of(aliceWithCarlPhone, editedBob, carlWithAlicePhone, DANIEL),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(aliceWithCarlPhone, uniquePersonList.getPhoneIndex().get(CARL.getPhone()).get());
+        assertEquals(3, uniquePersonList.indexOf(DANIEL));
+    }
+
+    @Test
+    public void mergePersons_duplicatePhoneNumber_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person carlWithBobPhone = new PersonBuilder(CARL).withPhone(BOB.getPhone().value).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(List.of(DANIEL,
+                carlWithBobPhone)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.containsUuid(DANIEL));
+    }
+
+    @Test
+    public void replacePersons_swapPhoneNumbers_replacesInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person aliceWithCarlPhone = new PersonBuilder(ALICE).withPhone(CARL.getPhone().value).build();
+        Person carlWithAlicePhone = new PersonBuilder(CARL).withPhone(ALICE.getPhone().value).build();
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        editedPersons.put(ALICE, aliceWithCarlPhone);
+        editedPersons.put(CARL, carlWithAlicePhone);
+
+        uniquePersonList.replacePersons(editedPersons);
+
+        assertEquals(List.of(aliceWithCarlPhone, BOB, carlWithAlicePhone),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(carlWithAlicePhone, uniquePersonList.getPhoneIndex().get(ALICE.getPhone()).get());
+    }
+
+    @Test
+    public void replacePersons_duplicatePhoneNumber_throwsDuplicatePersonExceptionAndLeavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.replacePersons(Map.of(ALICE, aliceWithBobPhone)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(Map.of(CARL, CARL)));
+    }
+
+    @Test
+    public void replaceRange_invalidRange_throwsIndexOutOfBoundsException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.replaceRange(1, 1, List.of()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
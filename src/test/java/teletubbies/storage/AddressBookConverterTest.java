@@ -0,0 +1,51 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.commons.core.AddressBookFormat;
+import teletubbies.model.AddressBook;
+import teletubbies.testutil.Assert;
+import teletubbies.testutil.TypicalPersons;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertTrue(AddressBookConverter.createStorage(AddressBookFormat.JSON, filePath)
+                instanceof JournaledAddressBookStorage);
+        assertTrue(AddressBookConverter.createStorage(AddressBookFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        AddressBookConverter.convert(AddressBookFormat.JSON, jsonPath, AddressBookFormat.BINARY, binaryPath);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+
+        AddressBookConverter.convert(AddressBookFormat.BINARY, binaryPath, AddressBookFormat.JSON, convertedPath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_throwsNoSuchFileException() {
+        Assert.assertThrows(NoSuchFileException.class, () -> AddressBookConverter.convert(AddressBookFormat.JSON,
+                testFolder.resolve("missing.json"), AddressBookFormat.BINARY, testFolder.resolve("addressbook.bin")));
+    }
+}
@@ -0,0 +1,147 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.HOON;
+import static teletubbies.testutil.TypicalPersons.IDA;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.commons.core.UserProfile.Role;
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.model.AddressBook;
+import teletubbies.model.ReadOnlyAddressBook;
+import teletubbies.model.person.Person;
+import teletubbies.model.tag.CompletionStatusTag;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.model.tag.Tag;
+import teletubbies.testutil.Assert;
+import teletubbies.testutil.TypicalPersons;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path NOT_BINARY_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(TypicalPersons.ALICE);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.bin.tmp")));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_tagsAndCompletionStatus_keptWithValues() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Tag age = new Tag("Age", "21", true);
+        Person person = new Person(HOON.getUuid(), HOON.getName(), HOON.getPhone(), HOON.getEmail(),
+                HOON.getAddress(), new CompletionStatusTag(CompletionStatus.COMPLETE), HOON.getRemark(),
+                Set.of(age, new Tag("friends")));
+        Person other = new Person(IDA.getUuid(), IDA.getName(), IDA.getPhone(), IDA.getEmail(), IDA.getAddress(),
+                IDA.getCompletionStatus(), IDA.getRemark(), Set.of(new Tag("Age", "21", true)));
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+        original.addPerson(other);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        Person readPerson = readBack.getPersonList().get(0);
+        Tag readAge = readPerson.getTag("Age");
+        assertEquals(CompletionStatus.COMPLETE, readPerson.getCompletionStatus().status);
+        assertTrue(readAge.equalsNameAndValue(age));
+        assertArrayEquals(new Role[] {Role.SUPERVISOR}, readAge.editAccessRoles);
+        // Equal tags are written to the dictionary once, and shared once read.
+        assertSame(readAge, readBack.getPersonList().get(1).getTag("Age"));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() {
+        assertCauseMessage(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_ADDRESS_BOOK, NOT_BINARY_FILE);
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertCauseMessage(BinaryAddressBookStorage.MESSAGE_CORRUPTED, filePath);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertCauseMessage(BinaryAddressBookStorage.MESSAGE_CORRUPTED, filePath);
+    }
+
+    @Test
+    public void readAddressBook_laterFormatVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertCauseMessage(String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), filePath);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin")).saveAddressBook(null));
+    }
+
+    private static void assertCauseMessage(String expectedMessage, Path filePath) {
+        DataConversionException e = assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertEquals(expectedMessage, e.getCause().getMessage());
+    }
+}
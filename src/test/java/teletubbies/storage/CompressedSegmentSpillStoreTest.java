@@ -0,0 +1,69 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.AMY;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.model.person.PersonListChange;
+
+public class CompressedSegmentSpillStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pop_versionsAcrossSegments_returnsVersionsNewestFirst() throws IOException, DataConversionException {
+        CompressedSegmentSpillStore store = new CompressedSegmentSpillStore(testFolder);
+        List<List<PersonListChange>> versions = new ArrayList<>();
+        int versionCount = CompressedSegmentSpillStore.SEGMENT_SIZE * 2 + 5;
+        for (int i = 0; i < versionCount; i++) {
+            List<PersonListChange> changes = List.of(
+                    new PersonListChange(i, List.of(ALICE), List.of(AMY)),
+                    new PersonListChange(0, List.of(), List.of(BENSON, BOB)));
+            versions.add(changes);
+            store.push(changes);
+        }
+        assertEquals(2, countSegmentFiles());
+
+        for (int i = versionCount - 1; i >= 0; i--) {
+            assertFalse(store.isEmpty());
+            assertEquals(versions.get(i), store.pop());
+        }
+        assertTrue(store.isEmpty());
+        assertEquals(0, countSegmentFiles());
+    }
+
+    @Test
+    public void clear_withSegments_deletesSegmentFiles() throws IOException {
+        CompressedSegmentSpillStore store = new CompressedSegmentSpillStore(testFolder);
+        for (int i = 0; i <= CompressedSegmentSpillStore.SEGMENT_SIZE; i++) {
+            store.push(List.of());
+        }
+        assertEquals(1, countSegmentFiles());
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertEquals(0, countSegmentFiles());
+    }
+
+    private long countSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.count();
+        }
+    }
+}
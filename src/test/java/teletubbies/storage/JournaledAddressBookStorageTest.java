@@ -0,0 +1,162 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.BENSON;
+import static teletubbies.testutil.TypicalPersons.HOON;
+import static teletubbies.testutil.TypicalPersons.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.commons.exceptions.DataConversionException;
+import teletubbies.model.AddressBook;
+import teletubbies.model.AddressBookSnapshot;
+import teletubbies.model.VersionedAddressBook;
+import teletubbies.testutil.Assert;
+import teletubbies.testutil.PersonBuilder;
+import teletubbies.testutil.TypicalPersons;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_knownChanges_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPersonChangeListener(storage);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("Called").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(testFolder.resolve("addressbook.json.journal")).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotOfEarlierVersion_appendsChangesUpToSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        VersionedAddressBook addressBook = new VersionedAddressBook(storage.readAddressBook().get());
+        addressBook.addPersonChangeListener(storage);
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot snapshot = addressBook.getCurrentState();
+        addressBook.addPerson(IDA);
+
+        // Only the change made before the snapshot was taken is saved.
+        storage.saveAddressBook(snapshot);
+        assertEquals(new AddressBook(snapshot),
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+
+        storage.saveAddressBook(addressBook.getCurrentState());
+        assertEquals(2, Files.readAllLines(testFolder.resolve("addressbook.json.journal")).size());
+        assertEquals(new AddressBook(addressBook),
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unknownChanges_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        // The storage is not told of these changes, so the whole address book is written again.
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("Called").build());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.journal")));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2, Long.MAX_VALUE);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPersonChangeListener(storage);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.journal")));
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.journal.compacting")));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Changes after the compaction go to a new journal.
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(testFolder.resolve("addressbook.json.journal")));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryDropped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPersonChangeListener(storage);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        Files.write(testFolder.resolve("addressbook.json.journal"), "{\"sequence\":2,\"chan".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        addressBook = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(expected, addressBook);
+
+        // The next save writes a snapshot rather than appending after the incomplete entry.
+        addressBook.addPersonChangeListener(reopened);
+        addressBook.addPerson(IDA);
+        reopened.saveAddressBook(addressBook);
+        assertFalse(Files.exists(testFolder.resolve("addressbook.json.journal")));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalNotMatchingSnapshot_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPersonChangeListener(storage);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        Assert.assertThrows(DataConversionException.class, () ->
+                new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+}
@@ -0,0 +1,87 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.commons.exceptions.IllegalValueException;
+import teletubbies.commons.util.JsonUtil;
+import teletubbies.model.AddressBook;
+import teletubbies.testutil.Assert;
+import teletubbies.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PHONE_FILE = TEST_DATA_FOLDER.resolve("duplicatePhoneAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_savedAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        assertEquals(original, reader.read(filePath));
+        assertEquals(0, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_unknownFields_skipped() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{\"version\": {\"major\": [1, 2]}, \"persons\": [], \"journalSequence\": 7,"
+                + " \"comment\": \"persons\"}");
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        assertEquals(new AddressBook(), reader.read(filePath));
+        assertEquals(7, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_missingPersons_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{\"persons\": null}");
+
+        Assert.assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_MISSING_PERSONS, () ->
+                new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_notAddressBook_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.writeString(filePath, "{\"persons\": [1, 2]}");
+
+        Assert.assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+        Assert.assertThrows(IOException.class, () -> new JsonAddressBookReader().read(NOT_JSON_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        Assert.assertThrows(IllegalValueException.class, () -> new JsonAddressBookReader().read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        Assert.assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookReader().read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePhoneNumbers_throwsIllegalValueException() {
+        Assert.assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookReader().read(DUPLICATE_PHONE_FILE));
+    }
+}
@@ -0,0 +1,77 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static teletubbies.testutil.TypicalPersons.ALICE;
+import static teletubbies.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import teletubbies.model.AddressBook;
+import teletubbies.model.person.Person;
+import teletubbies.model.tag.CompletionStatusTag.CompletionStatus;
+import teletubbies.testutil.PersonBuilder;
+import teletubbies.testutil.TypicalPersons;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_indented_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withCompletionStatus(CompletionStatus.COMPLETE).build());
+
+        new JsonAddressBookWriter(false).write(original.getPersonList(), filePath);
+
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+        assertEquals(original, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void write_compact_readBackSuccessfully() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withCompletionStatus(CompletionStatus.COMPLETE).build());
+
+        new JsonAddressBookWriter(true).write(original.getPersonList(), filePath);
+
+        String json = Files.readString(filePath);
+        assertFalse(json.contains("\n"));
+        assertFalse(json.contains(": "));
+        assertEquals(original, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_replaced() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter writer = new JsonAddressBookWriter(true);
+        writer.write(TypicalPersons.getTypicalPersons(), filePath);
+
+        List<Person> persons = List.of(ALICE);
+        writer.write(persons, filePath);
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void writeSnapshot_journalSequence_readBack() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+
+        new JsonAddressBookWriter(true).writeSnapshot(TypicalPersons.getTypicalPersons(), 42, filePath);
+
+        assertEquals(TypicalPersons.getTypicalAddressBook(), reader.read(filePath));
+        assertEquals(42, reader.getJournalSequence());
+    }
+}
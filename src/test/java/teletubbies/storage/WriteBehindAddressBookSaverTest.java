@@ -0,0 +1,110 @@
+package teletubbies.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import teletubbies.model.AddressBook;
+import teletubbies.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Test
+    public void requestSave_burstOfSaves_latestWrittenOnce() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, NEVER);
+        AddressBook latest = new AddressBook();
+
+        saver.requestSave(new AddressBook());
+        saver.requestSave(new AddressBook());
+        saver.requestSave(latest);
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+    }
+
+    @Test
+    public void flush_nothingToSave_nothingWritten() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, NEVER);
+
+        saver.flush();
+
+        assertEquals(0, storage.saved.size());
+    }
+
+    @Test
+    public void requestSave_delayPassed_writtenWithoutFlush() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0);
+
+        saver.requestSave(new AddressBook());
+        for (int i = 0; i < 100 && storage.saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_failureReported() {
+        IOException exception = new IOException("dummy exception");
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, NEVER);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    /**
+     * A storage that records the address books saved to it.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}